@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread request handling on the same machine.
+# Requires a Java 21 runtime and a service jar built with -Pjava21:
+#
+#   ./mvnw -Pjava21 install -DskipTests && (cd benchmarks && ../mvnw package)
+#   benchmarks/load-test.sh [extra LoadTest options, e.g. --upload-delay-ms 50]
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+APP_JAR="$(ls "$ROOT"/target/*-exec.jar)"
+BENCH_JAR="$ROOT/benchmarks/target/benchmarks.jar"
+PORT="${PORT:-8080}"
+OUT="${OUT:-$ROOT/benchmarks/load-test-results}"
+# The adaptive limiter would shed load and hide the threading difference; opt in to measure it.
+CONCURRENCY_LIMIT="${CONCURRENCY_LIMIT:-false}"
+mkdir -p "$OUT"
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  java -jar "$APP_JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" \
+      --validation.concurrency-limit.enabled="$CONCURRENCY_LIMIT" \
+      > "$OUT/server-$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+  until curl -sf "http://localhost:$PORT/health" > /dev/null; do sleep 0.5; done
+
+  echo "== $mode threads"
+  java -cp "$BENCH_JAR" com.example.config_validator_service.loadtest.LoadTest \
+      --url "http://localhost:$PORT/validate-config" "${@:3}" | tee "$OUT/$mode.csv"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform false "$@"
+run_mode virtual true "$@"
@@ -0,0 +1,167 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.toml.TomlMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a config document per input format. {@code direct} streams the document through
+ * the service's binder for its format, as {@code POST /validate-document} does. {@code
+ * convertToJson} is what clients did before: read the document into a tree with that format's
+ * Jackson mapper (or {@link Properties}), write it as JSON and validate the JSON. Converted
+ * properties keep their numbers and booleans as strings, so that path also fails the type rules.
+ *
+ * <p>{@code services} is the number of unaddressed service sections around the validated
+ * fields; 10,000 makes documents of roughly 0.9 to 1.2 MB depending on the format.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentFormatBenchmark {
+
+    @Param({"json", "yaml", "toml", "properties"})
+    public String format;
+
+    @Param({"10", "10000"})
+    public int services;
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper yaml = YAMLMapper.builder().build();
+    private final ObjectMapper toml = TomlMapper.builder().build();
+    private ValidationService validationService;
+    private byte[] document;
+
+    @Setup
+    public void setUp() {
+        validationService = new ValidationService();
+        document = document(format, services).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ValidationResult direct() throws IOException {
+        switch (format) {
+            case "toml":
+                return validationService.validateToml(reader(), CompiledRuleSet.ALL_ERRORS);
+            case "properties":
+                return validationService.validateProperties(reader(), CompiledRuleSet.ALL_ERRORS);
+            default:
+                try (JsonParser parser = ("json".equals(format) ? json : yaml).createParser(document)) {
+                    return validationService.validateDocument(parser, CompiledRuleSet.ALL_ERRORS);
+                }
+        }
+    }
+
+    @Benchmark
+    public ValidationResult convertToJson() throws IOException {
+        JsonNode tree;
+        switch (format) {
+            case "json":
+                tree = json.readTree(document);
+                break;
+            case "yaml":
+                tree = yaml.readTree(document);
+                break;
+            case "toml":
+                tree = toml.readTree(document);
+                break;
+            default:
+                tree = nest(document);
+                break;
+        }
+        try (JsonParser parser = json.createParser(json.writeValueAsBytes(tree))) {
+            return validationService.validateDocument(parser, CompiledRuleSet.ALL_ERRORS);
+        }
+    }
+
+    private Reader reader() {
+        return new InputStreamReader(new ByteArrayInputStream(document), StandardCharsets.UTF_8);
+    }
+
+    private ObjectNode nest(byte[] properties) throws IOException {
+        Properties loaded = new Properties();
+        loaded.load(new InputStreamReader(new ByteArrayInputStream(properties), StandardCharsets.UTF_8));
+        ObjectNode root = json.createObjectNode();
+        for (String name : loaded.stringPropertyNames()) {
+            String[] keys = name.split("\\.");
+            ObjectNode node = root;
+            for (int i = 0; i < keys.length - 1; i++) {
+                JsonNode child = node.get(keys[i]);
+                node = child instanceof ObjectNode ? (ObjectNode) child : node.putObject(keys[i]);
+            }
+            node.put(keys[keys.length - 1], loaded.getProperty(name));
+        }
+        return root;
+    }
+
+    static String document(String format, int services) {
+        StringBuilder out = new StringBuilder();
+        switch (format) {
+            case "json":
+                out.append("{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":1500,\"adminPassword\":\"")
+                        .append(Scenarios.PASSWORD).append("\",\"services\":{");
+                for (int i = 0; i < services; i++) {
+                    out.append(i == 0 ? "" : ",").append("\"svc").append(i).append("\":{\"host\":\"svc").append(i)
+                            .append(".internal\",\"port\":8080,\"enabled\":true,\"tags\":[\"a\",\"b\",\"c\"]}");
+                }
+                return out.append("}}").toString();
+            case "yaml":
+                out.append("environment: prod\ndebug: false\nmaxConnections: 1500\nadminPassword: ")
+                        .append(Scenarios.PASSWORD).append("\nservices:\n");
+                for (int i = 0; i < services; i++) {
+                    out.append("  svc").append(i).append(":\n    host: svc").append(i)
+                            .append(".internal\n    port: 8080\n    enabled: true\n    tags: [a, b, c]\n");
+                }
+                return out.toString();
+            case "toml":
+                out.append("environment = \"prod\"\ndebug = false\nmaxConnections = 1500\nadminPassword = \"")
+                        .append(Scenarios.PASSWORD).append("\"\n");
+                for (int i = 0; i < services; i++) {
+                    out.append("\n[services.svc").append(i).append("]\nhost = \"svc").append(i)
+                            .append(".internal\"\nport = 8080\nenabled = true\ntags = [\"a\", \"b\", \"c\"]\n");
+                }
+                return out.toString();
+            case "properties":
+                out.append("environment=prod\ndebug=false\nmaxConnections=1500\nadminPassword=")
+                        .append(Scenarios.PASSWORD).append('\n');
+                for (int i = 0; i < services; i++) {
+                    String prefix = "services.svc" + i + ".";
+                    out.append(prefix).append("host=svc").append(i).append(".internal\n")
+                            .append(prefix).append("port=8080\n")
+                            .append(prefix).append("enabled=true\n")
+                            .append(prefix).append("tags=a,b,c\n");
+                }
+                return out.toString();
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+}
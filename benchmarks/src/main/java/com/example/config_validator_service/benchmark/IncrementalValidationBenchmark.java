@@ -0,0 +1,110 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleCompiler;
+import com.example.config_validator_service.rules.RuleSetLoader;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import com.example.config_validator_service.service.IncrementalValidationService;
+import com.example.config_validator_service.service.PasswordPolicy;
+import com.example.config_validator_service.service.ValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-validating a document after a one-field edit. {@code full} sends the whole edited document
+ * to {@code POST /validate-document}; {@code patch} sends a one-operation JSON Patch against the
+ * recorded baseline, as {@code PATCH /validate-document/baseline/{fingerprint}} does, including
+ * reading the patch and fingerprinting the result.
+ *
+ * <p>{@code services} is 0 for the built-in rules, or the number of service sections of a
+ * data-driven rule set, each with a port range and a token password policy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IncrementalValidationBenchmark {
+
+    @Param({"0", "50"})
+    public int services;
+
+    private final JsonMapper json = JsonMapper.builder().build();
+    private ValidationService validationService;
+    private IncrementalValidationService incrementalService;
+    private byte[] document;
+    private byte[] patch;
+    private String fingerprint;
+
+    @Setup
+    public void setUp() {
+        RuleSetRegistry ruleSets = new RuleSetRegistry(services == 0
+                ? new RuleSetRegistry(PasswordPolicy.defaults()).current()
+                : RuleCompiler.compile(RuleSetLoader.parse(rules(services).getBytes(StandardCharsets.UTF_8),
+                        "rules.yaml")));
+        validationService = new ValidationService(ruleSets, null, null, null);
+        incrementalService = new IncrementalValidationService(ruleSets, new SimpleMeterRegistry(), 100,
+                Duration.ofHours(1));
+        String original = document(services, 1500);
+        document = document(services, 1600).getBytes(StandardCharsets.UTF_8);
+        patch = "[{\"op\":\"replace\",\"path\":\"/maxConnections\",\"value\":1600}]".getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = json.createParser(original)) {
+            fingerprint = incrementalService.validate(parser, CompiledRuleSet.ALL_ERRORS).getFingerprint();
+        }
+    }
+
+    @Benchmark
+    public ValidationResult full() {
+        try (JsonParser parser = json.createParser(document)) {
+            return validationService.validateDocument(parser, CompiledRuleSet.ALL_ERRORS);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult patch() {
+        return incrementalService.validatePatch(fingerprint, json.readTree(patch), CompiledRuleSet.ALL_ERRORS)
+                .getResult();
+    }
+
+    static String rules(int services) {
+        StringBuilder out = new StringBuilder("version: bench\nfields:\n"
+                + "  - {name: environment, type: String, allowedValues: [dev, prod]}\n"
+                + "  - name: maxConnections\n    type: Integer\n    rangeBy:\n      field: environment\n"
+                + "      ranges: {dev: {min: 1, max: 100}, prod: {min: 10, max: 5000}}\n");
+        for (int i = 0; i < services; i++) {
+            out.append("  - {name: services.svc").append(i).append(".port, type: Integer, range: {min: 1, max: 65535}}\n")
+                    .append("  - name: services.svc").append(i).append(".token\n    type: String\n")
+                    .append("    password: {minLength: 12, requiredClasses: [LOWERCASE, UPPERCASE, DIGIT, SPECIAL]}\n");
+        }
+        return out.toString();
+    }
+
+    static String document(int services, int maxConnections) {
+        StringBuilder out = new StringBuilder("{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":")
+                .append(maxConnections).append(",\"adminPassword\":\"").append(Scenarios.PASSWORD)
+                .append("\",\"services\":{");
+        for (int i = 0; i < services; i++) {
+            out.append(i == 0 ? "" : ",").append("\"svc").append(i).append("\":{\"port\":").append(8080 + i)
+                    .append(",\"token\":\"").append(Scenarios.PASSWORD).append(i).append("\"}");
+        }
+        return out.append("}}").toString();
+    }
+}
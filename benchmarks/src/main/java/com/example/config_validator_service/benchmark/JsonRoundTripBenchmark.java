@@ -0,0 +1,74 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full request cycle minus HTTP: bind the request body, validate, write the response body.
+ * Uses the mapper Spring Boot auto-configures for the controller, not a default one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonRoundTripBenchmark {
+
+    @Param({"pass", "maxConnectionsOutOfRange", "allMissing"})
+    public String scenario;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ValidationService validationService;
+    private byte[] requestBody;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        objectMapper = context.getBean(ObjectMapper.class);
+        validationService = new ValidationService();
+        requestBody = objectMapper.writeValueAsBytes(Scenarios.request(scenario));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] roundTrip() {
+        ConfigRequest request = objectMapper.readValue(requestBody, ConfigRequest.class);
+        ValidationResult result = validationService.validate(request);
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] serializeSchema() {
+        return objectMapper.writeValueAsBytes(validationService.getSchema());
+    }
+}
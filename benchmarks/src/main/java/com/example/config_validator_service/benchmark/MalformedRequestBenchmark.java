@@ -0,0 +1,148 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.controller.ValidationJsonConverter;
+import com.example.config_validator_service.exception.GlobalExceptionHandler;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.ValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a request body end to end, from reading it to writing the response, for
+ * valid and malformed bodies. {@code current} goes through {@link ValidationJsonConverter} and
+ * {@link GlobalExceptionHandler}; {@code previous} reads with the Jackson converter and copies
+ * the exception message into the response, as the handler used to.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MalformedRequestBenchmark {
+
+    @Param({"valid", "truncated", "wrongType"})
+    public String body;
+
+    private ConfigurableApplicationContext context;
+    private JacksonJsonHttpMessageConverter jackson;
+    private ValidationJsonConverter streaming;
+    private GlobalExceptionHandler handler;
+    private ValidationService validationService;
+    private byte[] requestBody;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream(512);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        JsonMapper jsonMapper = context.getBean(JsonMapper.class);
+        jackson = new JacksonJsonHttpMessageConverter(jsonMapper);
+        streaming = new ValidationJsonConverter(jsonMapper);
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        validationService = new ValidationService();
+        String json = switch (body) {
+            case "valid" -> "{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":1500,"
+                    + "\"adminPassword\":\"SecureP@ssw0rd\"}";
+            case "truncated" -> "{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":15";
+            case "wrongType" -> "{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":\"many\"}";
+            default -> throw new IllegalArgumentException(body);
+        };
+        requestBody = json.getBytes(StandardCharsets.UTF_8);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int current() throws IOException {
+        ValidationResult result;
+        try {
+            result = validationService.validate((ConfigRequest) streaming.read(ConfigRequest.class, new InputMessage()));
+        } catch (HttpMessageNotReadableException ex) {
+            result = handler.handleMalformedJson(ex).getBody();
+        }
+        responseBody.reset();
+        streaming.write(result, MediaType.APPLICATION_JSON, new OutputMessage());
+        return responseBody.size();
+    }
+
+    @Benchmark
+    public int previous() throws IOException {
+        ValidationResult result;
+        try {
+            result = validationService.validate((ConfigRequest) jackson.read(ConfigRequest.class, new InputMessage()));
+        } catch (HttpMessageNotReadableException ex) {
+            result = ValidationResult.failure(ErrorCode.MALFORMED_REQUEST,
+                    "Malformed JSON request or invalid data types: " + ex.getMessage());
+        }
+        responseBody.reset();
+        jackson.write(result, MediaType.APPLICATION_JSON, new OutputMessage());
+        return responseBody.size();
+    }
+
+    private final class InputMessage implements HttpInputMessage {
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(requestBody);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private final class OutputMessage implements HttpOutputMessage {
+        private final HttpHeaders outputHeaders = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return responseBody;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return outputHeaders;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.controller.ValidationJsonConverter;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the request body and writing the response body the way Spring MVC does, with the
+ * default Jackson converter and with {@link ValidationJsonConverter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageConverterBenchmark {
+
+    @Param({"pass", "maxConnectionsOutOfRange", "allMissing"})
+    public String scenario;
+
+    private ConfigurableApplicationContext context;
+    private JacksonJsonHttpMessageConverter jackson;
+    private ValidationJsonConverter streaming;
+    private ValidationService validationService;
+    private byte[] requestBody;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream(512);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        JsonMapper jsonMapper = context.getBean(JsonMapper.class);
+        jackson = new JacksonJsonHttpMessageConverter(jsonMapper);
+        streaming = new ValidationJsonConverter(jsonMapper);
+        validationService = new ValidationService();
+        requestBody = jsonMapper.writeValueAsBytes(Scenarios.request(scenario));
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int jacksonConverter() throws IOException {
+        return roundTrip(jackson);
+    }
+
+    @Benchmark
+    public int validationJsonConverter() throws IOException {
+        return roundTrip(streaming);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int roundTrip(HttpMessageConverter<?> converter) throws IOException {
+        HttpMessageConverter<Object> objectConverter = (HttpMessageConverter<Object>) converter;
+        ConfigRequest request = (ConfigRequest) objectConverter.read(ConfigRequest.class, new InputMessage());
+        ValidationResult result = validationService.validate(request);
+        responseBody.reset();
+        objectConverter.write(result, MediaType.APPLICATION_JSON, new OutputMessage());
+        return responseBody.size();
+    }
+
+    private final class InputMessage implements HttpInputMessage {
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(requestBody);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private final class OutputMessage implements HttpOutputMessage {
+        private final HttpHeaders outputHeaders = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return responseBody;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return outputHeaders;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.service.PasswordPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link PasswordPolicy} with the regex check it replaced in ValidationService.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordPolicyBenchmark {
+
+    @Param({"SecureP@ssw0rd", "nocaps1!", "NoSpecialChars123", "Short1!"})
+    public String password;
+
+    private final PasswordPolicy policy = PasswordPolicy.defaults();
+
+    @Benchmark
+    public boolean regexPerCall() {
+        return legacyIsValidPassword(password);
+    }
+
+    @Benchmark
+    public int policyCheck() {
+        return policy.check(password);
+    }
+
+    // Verbatim copy of the pre-PasswordPolicy implementation, kept as the baseline.
+    private static boolean legacyIsValidPassword(String password) {
+        if (password.length() < 8) return false;
+        if (!Pattern.compile("[a-z]").matcher(password).find()) return false;
+        if (!Pattern.compile("[A-Z]").matcher(password).find()) return false;
+        if (!Pattern.compile("[0-9]").matcher(password).find()) return false;
+        if (!Pattern.compile("[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]").matcher(password).find()) return false;
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.DefaultRules;
+import com.example.config_validator_service.rules.RuleCompiler;
+import com.example.config_validator_service.rules.RuleSetDefinition;
+import com.example.config_validator_service.rules.RuleSetLoader;
+import com.example.config_validator_service.service.PasswordPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluating bound values with the rules run by a generated class vs. the interpreted loop over
+ * rule objects. Binding is left out, so only rule execution is measured. Each operation
+ * validates every config of a mix: the seven {@link ValidationBenchmark} scenarios for
+ * {@code builtin}, and for {@code services} the rule set of {@link IncrementalValidationBenchmark}
+ * with 50 service sections, one passing document, one with an out-of-range port and one with a
+ * weak token.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleBackendBenchmark {
+
+    private static final String[] SCENARIOS = {"pass", "invalidEnvironment", "missingEnvironment", "debugInProd",
+        "maxConnectionsOutOfRange", "weakPassword", "allMissing"};
+
+    @Param({"builtin", "services"})
+    public String rules;
+
+    @Param({"GENERATED", "INTERPRETED"})
+    public RuleCompiler.Backend backend;
+
+    private CompiledRuleSet ruleSet;
+    private Object[][] mix;
+
+    @Setup
+    public void setUp() {
+        RuleSetDefinition definition = "builtin".equals(rules)
+                ? DefaultRules.create(PasswordPolicy.defaults())
+                : RuleSetLoader.parse(IncrementalValidationBenchmark.rules(50).getBytes(StandardCharsets.UTF_8),
+                        "rules.yaml");
+        ruleSet = RuleCompiler.compile(definition, backend);
+        if (ruleSet.isGenerated() != (backend == RuleCompiler.Backend.GENERATED)) {
+            throw new IllegalStateException("Rules could not be generated on this JVM");
+        }
+        if ("builtin".equals(rules)) {
+            mix = new Object[SCENARIOS.length][];
+            for (int i = 0; i < SCENARIOS.length; i++) {
+                mix[i] = ruleSet.bind(Scenarios.request(SCENARIOS[i]));
+            }
+        } else {
+            String document = IncrementalValidationBenchmark.document(50, 1500);
+            mix = new Object[][] {bind(document), bind(document.replace("\"port\":8129", "\"port\":70000")),
+                bind(document.replace(Scenarios.PASSWORD + "0\"", "weak\""))};
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        for (Object[] values : mix) {
+            blackhole.consume(ruleSet.validate(values));
+        }
+    }
+
+    @Benchmark
+    public void validateFailFast(Blackhole blackhole) {
+        for (Object[] values : mix) {
+            blackhole.consume(ruleSet.validate(values, 1));
+        }
+    }
+
+    private Object[] bind(String document) {
+        try (JsonParser parser = JsonMapper.builder().build().createParser(document)) {
+            return ruleSet.bind(parser);
+        }
+    }
+}
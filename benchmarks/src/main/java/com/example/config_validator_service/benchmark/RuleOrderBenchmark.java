@@ -0,0 +1,103 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleCompiler;
+import com.example.config_validator_service.rules.RuleMetrics;
+import com.example.config_validator_service.rules.RuleOrderTuner;
+import com.example.config_validator_service.rules.RuleSetLoader;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import com.example.config_validator_service.service.PasswordPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fail-fast evaluation of a mix of ten bound configs per operation, six of which pass.
+ * {@code static} keeps the cheapest-first order the rule set is compiled with; {@code tuned}
+ * lets {@link RuleOrderTuner} reorder it from measurements of the same mix first.
+ *
+ * <p>{@code builtin} is the built-in rule set, with three weak passwords and one
+ * out-of-range {@code maxConnections} in the mix. {@code services} is the data-driven rule set
+ * of {@link IncrementalValidationBenchmark} with 50 service sections, where three configs have
+ * an out-of-range port in the last section and one has a weak token in the first.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleOrderBenchmark {
+
+    @Param({"builtin", "services"})
+    public String rules;
+
+    @Param({"static", "tuned"})
+    public String order;
+
+    private CompiledRuleSet ruleSet;
+    private Object[][] mix;
+
+    @Setup
+    public void setUp() {
+        RuleSetRegistry ruleSets = "builtin".equals(rules)
+                ? new RuleSetRegistry(PasswordPolicy.defaults())
+                : new RuleSetRegistry(RuleCompiler.compile(RuleSetLoader.parse(
+                        IncrementalValidationBenchmark.rules(50).getBytes(StandardCharsets.UTF_8), "rules.yaml")));
+        ruleSet = ruleSets.current();
+        mix = new Object[10][];
+        for (int i = 0; i < mix.length; i++) {
+            String scenario = i < 6 ? "pass" : i < 9 ? "common" : "rare";
+            mix[i] = "builtin".equals(rules) ? builtin(scenario) : services(scenario);
+        }
+        if ("tuned".equals(order)) {
+            RuleMetrics metrics = new RuleMetrics(new SimpleMeterRegistry(), ruleSets, 1);
+            RuleOrderTuner tuner = new RuleOrderTuner(ruleSets, metrics, false, Duration.ofSeconds(30), 1000);
+            for (int i = 0; i < 20_000; i++) {
+                metrics.validate(ruleSet, mix[i % mix.length], 1);
+            }
+            tuner.tune();
+        }
+    }
+
+    @Benchmark
+    public void validateFailFast(Blackhole blackhole) {
+        for (Object[] values : mix) {
+            blackhole.consume(ruleSet.validate(values, 1));
+        }
+    }
+
+    private Object[] builtin(String scenario) {
+        String name = "pass".equals(scenario) ? "pass" : "common".equals(scenario) ? "weakPassword"
+                : "maxConnectionsOutOfRange";
+        return ruleSet.bind(Scenarios.request(name));
+    }
+
+    private Object[] services(String scenario) {
+        String document = IncrementalValidationBenchmark.document(50, 1500);
+        if ("common".equals(scenario)) {
+            document = document.replace("\"port\":8129", "\"port\":70000");
+        } else if ("rare".equals(scenario)) {
+            document = document.replace(Scenarios.PASSWORD + "0\"", "weak\"");
+        }
+        try (JsonParser parser = JsonMapper.builder().build().createParser(document)) {
+            return ruleSet.bind(parser);
+        }
+    }
+}
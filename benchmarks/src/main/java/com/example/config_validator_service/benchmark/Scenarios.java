@@ -0,0 +1,35 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.model.ConfigRequest;
+
+/**
+ * Request fixtures shared by the benchmarks: one passing config and one per failure type.
+ */
+final class Scenarios {
+
+    static final String PASSWORD = "SecureP@ssw0rd";
+
+    private Scenarios() {
+    }
+
+    static ConfigRequest request(String scenario) {
+        switch (scenario) {
+            case "pass":
+                return new ConfigRequest("prod", false, 1500, PASSWORD);
+            case "invalidEnvironment":
+                return new ConfigRequest("staging", false, 50, PASSWORD);
+            case "missingEnvironment":
+                return new ConfigRequest(null, false, 50, PASSWORD);
+            case "debugInProd":
+                return new ConfigRequest("prod", true, 1500, PASSWORD);
+            case "maxConnectionsOutOfRange":
+                return new ConfigRequest("dev", true, 5000, PASSWORD);
+            case "weakPassword":
+                return new ConfigRequest("dev", true, 50, "password");
+            case "allMissing":
+                return new ConfigRequest(null, null, null, null);
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+}
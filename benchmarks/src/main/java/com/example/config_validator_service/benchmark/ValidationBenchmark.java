@@ -0,0 +1,60 @@
+package com.example.config_validator_service.benchmark;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ValidationService#validate} for a passing config and each failure type, reporting
+ * all violations and fail-fast.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"pass", "invalidEnvironment", "missingEnvironment", "debugInProd",
+            "maxConnectionsOutOfRange", "weakPassword", "allMissing"})
+    public String scenario;
+
+    private ValidationService validationService;
+    private ConfigRequest request;
+
+    @Setup
+    public void setUp() {
+        validationService = new ValidationService();
+        request = Scenarios.request(scenario);
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validationService.validate(request);
+    }
+
+    @Benchmark
+    public ValidationResult validateFailFast() {
+        return validationService.validate(request, 1);
+    }
+
+    @Benchmark
+    public SchemaDefinition getSchema() {
+        return validationService.getSchema();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.config_validator_service.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for {@code POST /validate-config}. For each concurrency level it
+ * keeps that many requests in flight for a fixed duration and prints p50/p99 latency,
+ * throughput and error count as one CSV row. The highest level that stays under the error and
+ * p99 budgets is reported as the maximum sustained concurrency.
+ *
+ * <p>{@code --upload-delay-ms} trickles the request body in two parts with a pause in between,
+ * which ties up a server thread per connection the way slow CI agents do.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.config_validator_service.loadtest.LoadTest \
+ *     --url http://localhost:8080/validate-config --levels 50,200,800,1600 --seconds 20
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final byte[] BODY = ("{\"environment\":\"prod\",\"debug\":false,"
+            + "\"maxConnections\":1500,\"adminPassword\":\"SecureP@ssw0rd\"}").getBytes(StandardCharsets.UTF_8);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080/validate-config";
+        int[] levels = {50, 200, 400, 800, 1600};
+        int seconds = 20;
+        long uploadDelayMs = 0;
+        double maxErrorRate = 0.01;
+        long p99BudgetMs = 1000;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url":
+                    url = args[i + 1];
+                    break;
+                case "--levels":
+                    levels = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--seconds":
+                    seconds = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--upload-delay-ms":
+                    uploadDelayMs = Long.parseLong(args[i + 1]);
+                    break;
+                case "--p99-budget-ms":
+                    p99BudgetMs = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        System.out.println("concurrency,requests,errors,throughput_rps,p50_ms,p99_ms");
+        int maxSustained = 0;
+        for (int level : levels) {
+            Result result = run(URI.create(url), level, Duration.ofSeconds(seconds), uploadDelayMs);
+            System.out.printf("%d,%d,%d,%.1f,%.2f,%.2f%n", level, result.requests, result.errors,
+                    result.requests / (double) seconds, result.p50Ms, result.p99Ms);
+            boolean healthy = result.errors <= result.requests * maxErrorRate && result.p99Ms <= p99BudgetMs;
+            if (healthy) {
+                maxSustained = level;
+            }
+        }
+        System.out.println("max_sustained_concurrency," + maxSustained);
+    }
+
+    private static Result run(URI uri, int concurrency, Duration duration, long uploadDelayMs)
+            throws InterruptedException {
+        // One platform thread per simulated client keeps the generator itself Java 17 compatible.
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long[][] latencies = new long[concurrency][];
+        AtomicLong errors = new AtomicLong();
+        AtomicInteger started = new AtomicInteger();
+
+        for (int c = 0; c < concurrency; c++) {
+            int client = c;
+            clients.execute(() -> {
+                started.incrementAndGet();
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request(uri, uploadDelayMs),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                    } catch (IOException ex) {
+                        errors.incrementAndGet();
+                        continue;
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                latencies[client] = Arrays.copyOf(samples, count);
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, java.util.concurrent.TimeUnit.SECONDS);
+
+        long[] all = Arrays.stream(latencies).filter(a -> a != null).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        return new Result(all.length, errors.get(), percentileMs(all, 0.50), percentileMs(all, 0.99));
+    }
+
+    private static HttpRequest request(URI uri, long uploadDelayMs) {
+        HttpRequest.BodyPublisher body = uploadDelayMs <= 0
+                ? HttpRequest.BodyPublishers.ofByteArray(BODY)
+                : HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> new SlowBody(uploadDelayMs)), BODY.length);
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(body)
+                .build();
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static final class Result {
+        final long requests;
+        final long errors;
+        final double p50Ms;
+        final double p99Ms;
+
+        Result(long requests, long errors, double p50Ms, double p99Ms) {
+            this.requests = requests;
+            this.errors = errors;
+            this.p50Ms = p50Ms;
+            this.p99Ms = p99Ms;
+        }
+    }
+
+    /**
+     * Serves the first half of the body, pauses, then serves the rest.
+     */
+    private static final class SlowBody extends InputStream {
+        private final long delayMs;
+        private int position;
+
+        SlowBody(long delayMs) {
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == BODY.length / 2) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while trickling body", ex);
+                }
+            }
+            return position < BODY.length ? BODY[position++] & 0xff : -1;
+        }
+    }
+}
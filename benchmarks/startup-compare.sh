@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Measures cold start of one or more service images: time from `docker run` until the first
+# successful POST /validate-config, and the container's memory use right after it.
+#
+#   docker build -t cvs:jvm . && docker build --target native -t cvs:native .
+#   benchmarks/startup-compare.sh cvs:jvm cvs:native
+#
+# Prints CSV: image,run,first_validation_ms,rss_mib
+set -euo pipefail
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+BODY='{"environment":"prod","debug":false,"maxConnections":1500,"adminPassword":"SecureP@ssw0rd"}'
+
+now_ms() { date +%s%3N; }
+
+echo "image,run,first_validation_ms,rss_mib"
+for image in "$@"; do
+  for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    id=$(docker run -d --rm -p "$PORT:8080" "$image")
+    until curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$BODY" \
+        "http://localhost:$PORT/validate-config"; do
+      sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    # MemUsage looks like "123.4MiB / 7.6GiB"; cgroup usage is the container's RSS plus page cache.
+    rss=$(docker stats --no-stream --format '{{.MemUsage}}' "$id" | awk '{print $1}')
+    echo "$image,$run,$elapsed,$rss"
+    docker stop -t 1 "$id" > /dev/null
+  done
+done
@@ -0,0 +1,140 @@
+package com.example.config_validator_service;
+
+import com.example.config_validator_service.cli.BulkValidator;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleCompiler;
+import com.example.config_validator_service.rules.RuleSetLoader;
+import com.example.config_validator_service.service.ValidationService;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline bulk validation: checks every config file below the given directories without
+ * starting Spring or the web server, e.g.
+ * {@code java -jar config-validator-service.jar validate --fail-fast conf/}.
+ *
+ * <p>Writes one NDJSON line per file to standard output, see {@link BulkValidator}, followed
+ * by a {@code {"summary":{...}}} line with the totals and files per second; the same totals
+ * go to standard error as one readable line. Exits with 0 if every file passed, 1 if any
+ * failed or a directory could not be listed, and 2 on a usage error or if the rule-set file or
+ * the output fails.
+ */
+public final class ConfigValidatorCli {
+
+    /** First argument that makes {@link ConfigValidatorServiceApplication} run this instead. */
+    public static final String COMMAND = "validate";
+
+    static final int EXIT_PASS = 0;
+    static final int EXIT_FAIL = 1;
+    static final int EXIT_ERROR = 2;
+
+    private static final String USAGE = "Usage: " + COMMAND
+            + " [--rules FILE] [--threads N] [--fail-fast | --max-errors N] PATH...\n"
+            + "  --rules FILE    YAML or JSON rule-set file; the built-in rules by default\n"
+            + "  --threads N     worker threads; the number of available processors by default\n"
+            + "  --fail-fast     report only the first violation per file\n"
+            + "  --max-errors N  report at most N violations per file";
+
+    private ConfigValidatorCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the command and returns its exit code.
+     */
+    static int run(String[] args, OutputStream out, PrintStream err) {
+        Path rules = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxErrors = CompiledRuleSet.ALL_ERRORS;
+        List<Path> roots = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--rules":
+                        rules = Path.of(value(args, ++i));
+                        break;
+                    case "--threads":
+                        threads = positive(args, ++i);
+                        break;
+                    case "--fail-fast":
+                        maxErrors = 1;
+                        break;
+                    case "--max-errors":
+                        maxErrors = positive(args, ++i);
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        roots.add(Path.of(args[i]));
+                        break;
+                }
+            }
+            if (roots.isEmpty()) {
+                throw new IllegalArgumentException("No path given");
+            }
+            for (Path root : roots) {
+                if (!Files.exists(root)) {
+                    throw new IllegalArgumentException("No such file or directory: " + root);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return EXIT_ERROR;
+        }
+
+        try {
+            ValidationService validationService = rules == null ? new ValidationService()
+                    : new ValidationService(RuleCompiler.compile(
+                            RuleSetLoader.parse(Files.readAllBytes(rules), rules.getFileName().toString())));
+            OutputStream buffered = new BufferedOutputStream(out, 1 << 16);
+            BulkValidator.Summary summary = new BulkValidator(validationService, maxErrors, threads)
+                    .validate(roots, buffered);
+            buffered.write(JsonMapper.builder().build().writeValueAsBytes(Map.of("summary", summary)));
+            buffered.write('\n');
+            buffered.flush();
+            err.printf("%d files: %d passed, %d failed, %d skipped, %d directory errors in %d ms"
+                            + " (%d files/s, %d threads)%n",
+                    summary.getFiles(), summary.getPassed(), summary.getFailed(), summary.getSkipped(),
+                    summary.getDirectoryErrors(), summary.getElapsedMillis(), summary.getFilesPerSecond(),
+                    summary.getThreads());
+            return summary.getFailed() == 0 && summary.getDirectoryErrors() == 0 ? EXIT_PASS : EXIT_FAIL;
+        } catch (IOException | RuntimeException ex) {
+            err.println("Validation aborted: " + ex.getMessage());
+            return EXIT_ERROR;
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static int positive(String[] args, int i) {
+        String value = value(args, i);
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException ex) {
+            // Reported below like any other out-of-range value.
+        }
+        throw new IllegalArgumentException(args[i - 1] + " must be a positive integer: " + value);
+    }
+}
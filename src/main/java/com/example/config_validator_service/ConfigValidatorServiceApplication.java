@@ -3,10 +3,17 @@ package com.example.config_validator_service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class ConfigValidatorServiceApplication {
 
 	public static void main(String[] args) {
+		// "validate <path>..." runs the offline bulk validator instead of the server.
+		if (args.length > 0 && ConfigValidatorCli.COMMAND.equals(args[0])) {
+			ConfigValidatorCli.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
 		SpringApplication.run(ConfigValidatorServiceApplication.class, args);
 	}
 
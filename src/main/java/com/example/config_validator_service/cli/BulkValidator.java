@@ -0,0 +1,349 @@
+package com.example.config_validator_service.cli;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.ValidationService;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Value;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates every config file below a set of directories, writing one NDJSON line per file.
+ *
+ * <p>Each directory is listed by its own fork/join task, and its files are validated in batches
+ * of {@value #BATCH_SIZE} by further tasks, so listing and validation spread over all workers
+ * and idle workers steal whole subtrees. The format follows the file extension ({@code .json},
+ * {@code .yaml}/{@code .yml}, {@code .toml}, {@code .properties}); other files are counted as
+ * skipped. Symbolic links to files are followed, links to directories are not, so a link cycle
+ * cannot make the walk loop.
+ *
+ * <p>Files of at least {@value #MAPPING_THRESHOLD} bytes are memory-mapped and parsed straight
+ * from the mapping. Smaller files, the common case for configs, are read into a buffer each
+ * batch reuses: for them the {@code mmap}/{@code munmap} calls and page faults cost more than
+ * one {@code read}, and mappings are only released when collected, which a walk over many
+ * thousands of small files would otherwise pile up.
+ *
+ * <p>A file that cannot be read or validated gets a FAIL line and the run goes on, whatever the
+ * cause. So does a directory that cannot be listed or an entry whose attributes cannot be read;
+ * those lines carry no format and are counted as directory errors, not as files.
+ *
+ * <p>A batch renders its lines into a private buffer and appends them to the output in one
+ * write, so lines from different workers never interleave; their order follows completion,
+ * not the directory listing.
+ */
+public final class BulkValidator {
+
+    static final int BATCH_SIZE = 16;
+    static final int MAPPING_THRESHOLD = 64 * 1024;
+
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+    private static final ObjectMapper YAML = YAMLMapper.builder().build();
+    // Lines are terminated explicitly, so suppress the default space between root values.
+    private static final ObjectWriter LINE_WRITER = JSON.writer().withRootValueSeparator("");
+
+    private final ValidationService validationService;
+    private final int maxErrors;
+    private final int parallelism;
+
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder directoryErrors = new LongAdder();
+    private OutputStream output;
+
+    /**
+     * @param maxErrors   violations reported per file; see
+     *                    {@link com.example.config_validator_service.rules.CompiledRuleSet#validate(Object[], int)}
+     * @param parallelism worker threads, normally the number of available processors
+     */
+    public BulkValidator(ValidationService validationService, int maxErrors, int parallelism) {
+        this.validationService = validationService;
+        this.maxErrors = maxErrors;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Validates all files below {@code roots}, each of which may also be a single file, and
+     * returns the totals. A validator instance runs once.
+     */
+    public Summary validate(List<Path> roots, OutputStream output) throws IOException {
+        this.output = output;
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Path> files = new ArrayList<>();
+            List<RecursiveAction> tasks = new ArrayList<>();
+            for (Path root : roots) {
+                if (Files.isDirectory(root)) {
+                    tasks.add(new DirectoryTask(root));
+                } else {
+                    files.add(root);
+                }
+            }
+            if (!files.isEmpty()) {
+                tasks.add(new BatchTask(files));
+            }
+            pool.submit(() -> RecursiveAction.invokeAll(tasks)).join();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        output.flush();
+        long elapsedNanos = System.nanoTime() - start;
+        long files = passed.sum() + failed.sum();
+        return new Summary(files, passed.sum(), failed.sum(), skipped.sum(), directoryErrors.sum(), parallelism,
+                elapsedNanos / 1_000_000, elapsedNanos > 0 ? Math.round(files * 1e9 / elapsedNanos) : 0);
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path directory;
+
+        DirectoryTask(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute() {
+            List<RecursiveAction> tasks = new ArrayList<>();
+            List<Path> batch = new ArrayList<>(BATCH_SIZE);
+            List<Entry> errors = new ArrayList<>(0);
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException ex) {
+                        errors.add(Entry.directoryError(entry, ex));
+                        continue;
+                    }
+                    if (attributes.isDirectory()) {
+                        tasks.add(new DirectoryTask(entry));
+                    } else if (attributes.isRegularFile()
+                            || (attributes.isSymbolicLink() && Files.isRegularFile(entry))) {
+                        batch.add(entry);
+                        if (batch.size() == BATCH_SIZE) {
+                            tasks.add(new BatchTask(batch));
+                            batch = new ArrayList<>(BATCH_SIZE);
+                        }
+                    }
+                }
+            } catch (IOException ex) {
+                errors.add(Entry.directoryError(directory, ex));
+            } catch (DirectoryIteratorException ex) {
+                errors.add(Entry.directoryError(directory, ex.getCause()));
+            }
+            report(errors);
+            if (!batch.isEmpty()) {
+                tasks.add(new BatchTask(batch));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    private final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Path> files;
+
+        BatchTask(List<Path> files) {
+            this.files = files;
+        }
+
+        @Override
+        protected void compute() {
+            List<Entry> entries = new ArrayList<>(files.size());
+            byte[] buffer = new byte[4096];
+            for (Path file : files) {
+                DocumentFormat format = DocumentFormat.of(file);
+                if (format == null) {
+                    skipped.increment();
+                    continue;
+                }
+                ValidationResult result;
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long size = channel.size();
+                    if (size >= MAPPING_THRESHOLD) {
+                        result = validate(format, new ByteBufferBackedInputStream(
+                                channel.map(FileChannel.MapMode.READ_ONLY, 0, size)));
+                    } else {
+                        if (buffer.length < size) {
+                            buffer = new byte[Integer.highestOneBit((int) size) << 1];
+                        }
+                        int length = read(channel, buffer);
+                        result = validate(format, new ByteArrayInputStream(buffer, 0, length));
+                    }
+                } catch (JacksonException ex) {
+                    result = ValidationResult.failure(ErrorCode.MALFORMED_REQUEST,
+                            "Invalid " + format.label + ": " + ex.getOriginalMessage());
+                } catch (IOException ex) {
+                    result = unreadable(ex);
+                } catch (RuntimeException ex) {
+                    // E.g. a file too large to map; one bad file must not end the whole run.
+                    result = ValidationResult.failure(ErrorCode.INTERNAL_ERROR, "Could not validate file: " + ex);
+                }
+                entries.add(new Entry(file, format, result));
+            }
+            report(entries);
+        }
+    }
+
+    private static int read(FileChannel channel, byte[] buffer) throws IOException {
+        ByteBuffer target = ByteBuffer.wrap(buffer);
+        int read;
+        do {
+            read = channel.read(target);
+        } while (read >= 0 && target.hasRemaining());
+        return target.position();
+    }
+
+    private ValidationResult validate(DocumentFormat format, InputStream content) throws IOException {
+        switch (format) {
+            case TOML:
+                return validationService.validateToml(new InputStreamReader(content, StandardCharsets.UTF_8),
+                        maxErrors);
+            case PROPERTIES:
+                return validationService.validateProperties(new InputStreamReader(content, StandardCharsets.UTF_8),
+                        maxErrors);
+            default:
+                try (JsonParser parser = (format == DocumentFormat.JSON ? JSON : YAML).createParser(content)) {
+                    ValidationResult result = validationService.validateDocument(parser, maxErrors);
+                    return result != null ? result : ValidationResult.failure(ErrorCode.MALFORMED_REQUEST,
+                            "Invalid " + format.label + ": document must be a single object.");
+                }
+        }
+    }
+
+    private static ValidationResult unreadable(IOException ex) {
+        return ValidationResult.failure(ErrorCode.MALFORMED_REQUEST, "Could not read file: " + ex);
+    }
+
+    private void report(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(256 * entries.size());
+        try (JsonGenerator generator = LINE_WRITER.createGenerator(lines)) {
+            for (Entry entry : entries) {
+                if (entry.format == null) {
+                    directoryErrors.increment();
+                } else if ("PASS".equals(entry.result.getStatus())) {
+                    passed.increment();
+                } else {
+                    failed.increment();
+                }
+                generator.writeStartObject();
+                generator.writeStringProperty("file", entry.file.toString());
+                if (entry.format != null) {
+                    generator.writeStringProperty("format", entry.format.label);
+                }
+                generator.writeStringProperty("status", entry.result.getStatus());
+                generator.writePOJOProperty("errors", entry.result.getErrors());
+                generator.writePOJOProperty("violations", entry.result.getViolations());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        synchronized (this) {
+            try {
+                lines.writeTo(output);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private static final class Entry {
+        final Path file;
+        // Null for a directory or entry that could not be listed.
+        final DocumentFormat format;
+        final ValidationResult result;
+
+        Entry(Path file, DocumentFormat format, ValidationResult result) {
+            this.file = file;
+            this.format = format;
+            this.result = result;
+        }
+
+        static Entry directoryError(Path path, IOException ex) {
+            return new Entry(path, null,
+                    ValidationResult.failure(ErrorCode.MALFORMED_REQUEST, "Could not list: " + ex));
+        }
+    }
+
+    enum DocumentFormat {
+        JSON("json"), YAML("yaml"), TOML("toml"), PROPERTIES("properties");
+
+        final String label;
+
+        DocumentFormat(String label) {
+            this.label = label;
+        }
+
+        static DocumentFormat of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".json")) {
+                return JSON;
+            }
+            if (name.endsWith(".yaml") || name.endsWith(".yml")) {
+                return YAML;
+            }
+            if (name.endsWith(".toml")) {
+                return TOML;
+            }
+            return name.endsWith(".properties") ? PROPERTIES : null;
+        }
+    }
+
+    /**
+     * Totals of one run; {@code files} counts validated files, {@code skipped} those of
+     * unknown format. Unreadable and malformed files count as failed. {@code directoryErrors}
+     * counts directories that could not be listed and entries whose attributes could not be read.
+     */
+    @Value
+    @JsonPropertyOrder({"files", "passed", "failed", "skipped", "directoryErrors", "threads", "elapsedMillis",
+            "filesPerSecond"})
+    public static class Summary {
+        long files;
+        long passed;
+        long failed;
+        long skipped;
+        long directoryErrors;
+        int threads;
+        long elapsedMillis;
+        long filesPerSecond;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.config_validator_service.config;
+
+import com.example.config_validator_service.controller.ValidationJsonConverter;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.RuleMetrics;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import com.example.config_validator_service.service.ValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Drives the validation hot path and JSON binding until the JIT has compiled them, so the first
+ * real requests after a rollout do not run interpreted. Bodies are read and results written
+ * through {@link ValidationJsonConverter}, the same code that serves {@code /validate-config}.
+ *
+ * <p>Runs as an {@link ApplicationRunner}: Spring Boot only marks the application
+ * {@link ReadinessState#ACCEPTING_TRAFFIC ready} after all runners return, so
+ * {@code /actuator/health/readiness} reports OUT_OF_SERVICE until warm-up ends. Warm-up stops
+ * after {@code validation.warmup.iterations} rounds or {@code validation.warmup.time-budget},
+ * whichever comes first.
+ *
+ * <p>Validations go through a private {@link RuleMetrics} with its own registry, so the
+ * exported counters and latencies only ever reflect real traffic.
+ */
+@Component
+public class JitWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JitWarmUp.class);
+
+    // Pass and fail variants, so every rule takes both branches.
+    private static final String[] REQUESTS = {
+        "{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":1500,\"adminPassword\":\"SecureP@ssw0rd\"}",
+        "{\"environment\":\"dev\",\"debug\":true,\"maxConnections\":50,\"adminPassword\":\"An0ther#Secret\"}",
+        "{\"environment\":\"prod\",\"debug\":true,\"maxConnections\":5000,\"adminPassword\":\"weak\"}",
+        "{\"environment\":\"qa\",\"debug\":false,\"maxConnections\":0,\"adminPassword\":\"nouppercase1!\"}",
+        "{\"debug\":false,\"maxConnections\":10}",
+    };
+
+    private final RuleSetRegistry ruleSets;
+    private final ValidationJsonConverter converter;
+    private final ApplicationEventPublisher events;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration timeBudget;
+
+    @Autowired
+    public JitWarmUp(RuleSetRegistry ruleSets, ValidationJsonConverter converter, ApplicationEventPublisher events,
+                     @Value("${validation.warmup.enabled:true}") boolean enabled,
+                     @Value("${validation.warmup.iterations:20000}") int iterations,
+                     @Value("${validation.warmup.time-budget:10s}") Duration timeBudget) {
+        this.ruleSets = ruleSets;
+        this.converter = converter;
+        this.events = events;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        // Already the state before startup completes; published so the gating shows up in logs.
+        AvailabilityChangeEvent.publish(events, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.nanoTime();
+        try {
+            int rounds = warmUp();
+            log.info("JIT warm-up finished: {} rounds in {} ms", rounds,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs latency; never keep the instance out of service for it.
+            log.warn("JIT warm-up aborted", e);
+        }
+    }
+
+    /**
+     * Runs the warm-up loop and returns the number of completed rounds.
+     */
+    int warmUp() {
+        byte[][] bodies = new byte[REQUESTS.length][];
+        for (int i = 0; i < REQUESTS.length; i++) {
+            bodies[i] = REQUESTS[i].getBytes(StandardCharsets.UTF_8);
+        }
+        RuleSetRegistry snapshot = new RuleSetRegistry(ruleSets.current());
+        // Default sampling, so both the timed and the untimed rule loop get compiled.
+        RuleMetrics metrics = new RuleMetrics(new SimpleMeterRegistry(), snapshot, 8);
+        ValidationService service = new ValidationService(snapshot, metrics, null, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        int round = 0;
+        while (round < iterations && System.nanoTime() < deadline) {
+            for (byte[] body : bodies) {
+                ConfigRequest request = read(body);
+                write(service.validate(request), out);
+                write(service.validate(request, 1), out);
+            }
+            round++;
+        }
+        if (round < iterations) {
+            log.info("JIT warm-up stopped at its time budget of {} ms", timeBudget.toMillis());
+        }
+        return round;
+    }
+
+    private ConfigRequest read(byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            return (ConfigRequest) converter.read(ConfigRequest.class, new HttpInputMessage() {
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(ValidationResult result, ByteArrayOutputStream out) {
+        out.reset();
+        HttpHeaders headers = new HttpHeaders();
+        try {
+            converter.write(result, MediaType.APPLICATION_JSON, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return out;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
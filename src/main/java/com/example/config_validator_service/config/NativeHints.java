@@ -0,0 +1,35 @@
+package com.example.config_validator_service.config;
+
+import com.example.config_validator_service.cli.BulkValidator;
+import com.example.config_validator_service.model.BatchValidationResult;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+import com.example.config_validator_service.rules.RuleSetDefinition;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection hints for a GraalVM native image. Spring's AOT pass already covers the types in
+ * controller signatures; these models are also bound outside MVC: the NDJSON stream, the
+ * pre-rendered schema, the rule-set file loader and the offline {@code validate} command.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHints.class)
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                ConfigRequest.class, ValidationResult.class, BatchValidationResult.class,
+                SchemaDefinition.class, RuleSetDefinition.class, BulkValidator.Summary.class);
+        // Jackson reads these through package-private @JsonCreator factories.
+        hints.reflection().registerType(ValidationResult.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(Violation.class, MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+}
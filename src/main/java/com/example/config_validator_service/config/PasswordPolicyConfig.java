@@ -0,0 +1,20 @@
+package com.example.config_validator_service.config;
+
+import com.example.config_validator_service.service.PasswordPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class PasswordPolicyConfig {
+
+    @Bean
+    public PasswordPolicy passwordPolicy(
+            @Value("${validation.password.min-length:8}") int minLength,
+            @Value("${validation.password.required-classes:LOWERCASE,UPPERCASE,DIGIT,SPECIAL}")
+            List<PasswordPolicy.CharacterClass> requiredClasses) {
+        return new PasswordPolicy(minLength, requiredClasses);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.config_validator_service.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports which threading mode requests are served with. Spring Boot silently ignores
+ * {@code spring.threads.virtual.enabled} below Java 21, which is easy to miss when comparing modes.
+ */
+@Component
+public class VirtualThreadsCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsCheck.class);
+
+    private final boolean virtualThreadsEnabled;
+
+    public VirtualThreadsCheck(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        int feature = Runtime.version().feature();
+        if (virtualThreadsEnabled && feature < 21) {
+            log.warn("spring.threads.virtual.enabled=true has no effect on Java {}; "
+                    + "requests are served by platform threads", feature);
+        } else {
+            log.info("Serving requests on {} threads", virtualThreadsEnabled ? "virtual" : "platform");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.config_validator_service.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to measured latency, after the gradient algorithm of Netflix's
+ * concurrency-limits library.
+ *
+ * <p>Each sample compares a long-term average of request latency with the latest one. While they
+ * agree the limit grows by about its square root, probing for capacity; once latency rises above
+ * the long-term average (requests queue somewhere), the limit shrinks in proportion. Samples
+ * taken while less than half the limit is in use say nothing about capacity and only feed the
+ * averages.
+ */
+class AdaptiveConcurrencyLimit {
+
+    // Weight of a new sample in the long-term latency average (about the last 600 samples).
+    private static final double LONG_WINDOW_WEIGHT = 1.0 / 600;
+    // Share of each computed limit taken over, so single outliers do not swing it.
+    private static final double SMOOTHING = 0.2;
+    // Never cut the limit by more than half in one step.
+    private static final double MIN_GRADIENT = 0.5;
+    // A long-term average this far above recent latency is stale (e.g. after a slow warm-up).
+    private static final double STALE_RATIO = 2.0;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longLatency;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Concurrency limits must satisfy 1 <= min <= initial <= max, got "
+                            + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if fewer than {@link #getLimit()} requests are in flight. Every successful call
+     * must be paired with {@link #release(long)} or {@link #releaseWithoutSample()}.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the request's latency into the limit.
+     */
+    void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(latencyNanos, inFlightBefore);
+    }
+
+    /**
+     * Frees a slot without a latency sample, for requests whose duration depends on their input
+     * size rather than on load.
+     */
+    void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long latencyNanos, int inFlightBefore) {
+        double latency = Math.max(latencyNanos, 1);
+        longLatency = longLatency == 0 ? latency : longLatency + (latency - longLatency) * LONG_WINDOW_WEIGHT;
+        if (longLatency / latency > STALE_RATIO) {
+            longLatency *= 0.95;
+        }
+        if (inFlightBefore < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longLatency / latency));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double next = estimatedLimit * gradient + queueSize;
+        next = estimatedLimit * (1 - SMOOTHING) + next * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
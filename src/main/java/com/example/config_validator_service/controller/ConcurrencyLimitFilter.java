@@ -0,0 +1,119 @@
+package com.example.config_validator_service.controller;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.ValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Sheds validation requests beyond an {@link AdaptiveConcurrencyLimit} with an immediate 503 and
+ * {@code Retry-After}, so overload turns into fast rejections for some callers instead of
+ * queueing and timeouts for all of them.
+ *
+ * <p>Only the {@code /validate-config} and {@code /validate-document} endpoints, and the paths
+ * below them, are limited.
+ * Health checks, actuator probes and {@code /schema} always pass, so an overloaded instance is
+ * not also taken out of rotation. Batches, streams and documents hold a slot but do not feed the
+ * latency estimate, since their duration depends on input size. Shed requests are counted in
+ * {@code validation.requests.shed}.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String LIMITED_PATH = "/validate-config";
+    private static final String BATCH_PATH = "/validate-config/batch";
+    private static final String STREAM_PATH = "/validate-config/stream";
+    private static final String DOCUMENT_PATH = "/validate-document";
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit limit;
+    private final Counter shed;
+    private final String retryAfterSeconds;
+    private final byte[] overloadedBody;
+
+    @Autowired
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                                  @Value("${validation.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${validation.concurrency-limit.initial:20}") int initialLimit,
+                                  @Value("${validation.concurrency-limit.min:4}") int minLimit,
+                                  @Value("${validation.concurrency-limit.max:500}") int maxLimit,
+                                  @Value("${validation.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this(new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit), meterRegistry, objectMapper,
+                enabled, retryAfter);
+    }
+
+    ConcurrencyLimitFilter(AdaptiveConcurrencyLimit limit, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                           boolean enabled, Duration retryAfter) {
+        this.enabled = enabled;
+        this.limit = limit;
+        this.shed = Counter.builder("validation.requests.shed")
+                .description("Validation requests rejected with 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("validation.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive limit on concurrent validation requests")
+                .register(meterRegistry);
+        Gauge.builder("validation.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Validation requests currently being served")
+                .register(meterRegistry);
+        // Retry-After takes whole seconds; never tell clients to retry immediately.
+        this.retryAfterSeconds = Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        this.overloadedBody = objectMapper.writeValueAsBytes(ValidationResult.failure(ErrorCode.OVERLOADED,
+                "Service is overloaded; retry later."));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = path(request);
+        return !(path.equals(LIMITED_PATH) || path.startsWith(LIMITED_PATH + "/")
+                || path.equals(DOCUMENT_PATH) || path.startsWith(DOCUMENT_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            shed.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(overloadedBody.length);
+            response.getOutputStream().write(overloadedBody);
+            return;
+        }
+        String path = path(request);
+        boolean sampled = !path.equals(BATCH_PATH) && !path.equals(STREAM_PATH) && !path.startsWith(DOCUMENT_PATH);
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (sampled) {
+                limit.release(System.nanoTime() - start);
+            } else {
+                limit.releaseWithoutSample();
+            }
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.config_validator_service.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds an {@code int} handler parameter to the error limit a caller asked for: 1 for
+ * {@code failFast=true}, the {@code maxErrors} value, or {@code CompiledRuleSet.ALL_ERRORS} if
+ * neither is given. Each option is read from the query parameter, else from its header; see
+ * {@link ErrorLimitArgumentResolver}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ErrorLimit {
+}
@@ -0,0 +1,79 @@
+package com.example.config_validator_service.controller;
+
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Resolves {@link ErrorLimit} parameters. The query parameters {@code failFast} and
+ * {@code maxErrors} win over the {@value ValidationController#FAIL_FAST_HEADER} and
+ * {@value ValidationController#MAX_ERRORS_HEADER} headers, which admission webhooks that cannot
+ * change the URL send instead. Values that do not convert fail like a {@code @RequestParam}
+ * would; a limit below 1 is rejected with a {@link ServletRequestBindingException}, both
+ * answered with 400 by the exception handler.
+ */
+@Component
+public class ErrorLimitArgumentResolver implements HandlerMethodArgumentResolver, WebMvcConfigurer {
+
+    static final String FAIL_FAST_PARAMETER = "failFast";
+    static final String MAX_ERRORS_PARAMETER = "maxErrors";
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(this);
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(ErrorLimit.class) && parameter.getParameterType() == int.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Boolean failFast = option(webRequest, binderFactory, parameter,
+                FAIL_FAST_PARAMETER, ValidationController.FAIL_FAST_HEADER, Boolean.class);
+        Integer maxErrors = option(webRequest, binderFactory, parameter,
+                MAX_ERRORS_PARAMETER, ValidationController.MAX_ERRORS_HEADER, Integer.class);
+        if (Boolean.TRUE.equals(failFast)) {
+            return 1;
+        }
+        if (maxErrors == null) {
+            return CompiledRuleSet.ALL_ERRORS;
+        }
+        if (maxErrors < 1) {
+            throw new ServletRequestBindingException("maxErrors must be at least 1.");
+        }
+        return maxErrors;
+    }
+
+    private static <T> T option(NativeWebRequest request, WebDataBinderFactory binderFactory,
+                                MethodParameter parameter, String name, String header, Class<T> type)
+            throws Exception {
+        String value = request.getParameter(name);
+        if (value == null) {
+            value = request.getHeader(header);
+            name = header;
+        }
+        if (value == null) {
+            return null;
+        }
+        WebDataBinder binder = binderFactory.createBinder(request, null, name);
+        try {
+            return binder.convertIfNecessary(value, type, parameter);
+        } catch (TypeMismatchException ex) {
+            throw new MethodArgumentTypeMismatchException(value, type, name, parameter, ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.config_validator_service.controller;
+
+import com.example.config_validator_service.model.RuleOrderReport;
+import com.example.config_validator_service.rules.RuleOrderTuner;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/ruleorder}: the order fail-fast and {@code maxErrors} validations
+ * evaluate rules in, with the measured cost and rejection rate of each rule.
+ */
+@Component
+@Endpoint(id = "ruleorder")
+public class RuleOrderEndpoint {
+
+    private final RuleOrderTuner tuner;
+
+    public RuleOrderEndpoint(RuleOrderTuner tuner) {
+        this.tuner = tuner;
+    }
+
+    @ReadOperation
+    public RuleOrderReport ruleOrder() {
+        return tuner.report();
+    }
+}
@@ -1,32 +1,249 @@
 package com.example.config_validator_service.controller;
 
+import com.example.config_validator_service.exception.MalformedRequestException;
+import com.example.config_validator_service.model.BatchValidationResult;
 import com.example.config_validator_service.model.ConfigRequest;
-import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.model.ErrorCode;
 import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.IncrementalValidationService;
+import com.example.config_validator_service.service.NdjsonValidationService;
+import com.example.config_validator_service.service.SchemaCache;
 import com.example.config_validator_service.service.ValidationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 public class ValidationController {
 
+    static final String FAIL_FAST_HEADER = "X-Validation-Fail-Fast";
+    static final String MAX_ERRORS_HEADER = "X-Validation-Max-Errors";
+    static final String APPLICATION_X_YAML_VALUE = "application/x-yaml";
+    static final String APPLICATION_TOML_VALUE = "application/toml";
+    static final String TEXT_PROPERTIES_VALUE = "text/x-java-properties";
+    static final String APPLICATION_JSON_PATCH_VALUE = "application/json-patch+json";
+    static final String FINGERPRINT_HEADER = "X-Validation-Fingerprint";
+
+    private static final MediaType APPLICATION_TOML = MediaType.parseMediaType(APPLICATION_TOML_VALUE);
+    private static final MediaType TEXT_PROPERTIES = MediaType.parseMediaType(TEXT_PROPERTIES_VALUE);
+    private static final ObjectMapper YAML = YAMLMapper.builder().build();
+
     private final ValidationService validationService;
+    private final IncrementalValidationService incrementalValidationService;
+    private final NdjsonValidationService ndjsonValidationService;
+    private final SchemaCache schemaCache;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ValidationController(ValidationService validationService) {
+    public ValidationController(ValidationService validationService,
+                                IncrementalValidationService incrementalValidationService,
+                                NdjsonValidationService ndjsonValidationService,
+                                SchemaCache schemaCache,
+                                ObjectMapper objectMapper) {
         this.validationService = validationService;
+        this.incrementalValidationService = incrementalValidationService;
+        this.ndjsonValidationService = ndjsonValidationService;
+        this.schemaCache = schemaCache;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Validates one config. By default every violation is reported; {@code failFast} stops at
+     * the first one and {@code maxErrors} caps how many are reported. Both can also be sent as
+     * headers, e.g. by admission webhooks that cannot change the URL; query parameters win.
+     */
     @PostMapping("/validate-config")
-    public ResponseEntity<ValidationResult> validateConfig(@RequestBody ConfigRequest request) {
-        ValidationResult result = validationService.validate(request);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<ValidationResult> validateConfig(
+            @RequestBody ConfigRequest request,
+            @ErrorLimit int maxErrors) {
+        return ResponseEntity.ok(validationService.validate(request, maxErrors));
+    }
+
+    /**
+     * Validates a config document of any shape against the rule set, whose field names are
+     * dot-separated paths into it, e.g. {@code db.pool.maxConnections}. The body is streamed and
+     * only the addressed values are read, so documents of any size work; violations carry a JSON
+     * pointer {@code path}. Takes the same error-limit options as {@code /validate-config}.
+     *
+     * <p>The format follows {@code Content-Type}: JSON, YAML ({@code application/yaml} or
+     * {@code application/x-yaml}), TOML ({@code application/toml}) or Java properties
+     * ({@code text/x-java-properties}, where keys are the full field names). Text formats are
+     * decoded with the {@code charset} parameter, UTF-8 by default.
+     */
+    @PostMapping(value = "/validate-document", consumes = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_YAML_VALUE, APPLICATION_X_YAML_VALUE, APPLICATION_TOML_VALUE,
+            TEXT_PROPERTIES_VALUE})
+    public ResponseEntity<ValidationResult> validateDocument(
+            HttpServletRequest servletRequest,
+            @ErrorLimit int maxErrors) throws IOException {
+        ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(servletRequest);
+        try {
+            return ResponseEntity.ok(validateDocument(inputMessage, maxErrors));
+        } catch (StreamReadException ex) {
+            throw new MalformedRequestException(MalformedRequestException.Reason.SYNTAX, inputMessage);
+        }
+    }
+
+    private ValidationResult validateDocument(ServletServerHttpRequest inputMessage, int maxErrors) throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        if (APPLICATION_TOML.isCompatibleWith(contentType)) {
+            return validationService.validateToml(reader(inputMessage, contentType), maxErrors);
+        }
+        if (TEXT_PROPERTIES.isCompatibleWith(contentType)) {
+            return validationService.validateProperties(reader(inputMessage, contentType), maxErrors);
+        }
+        ObjectMapper mapper = MediaType.APPLICATION_JSON.isCompatibleWith(contentType) ? objectMapper : YAML;
+        try (JsonParser parser = mapper.createParser(inputMessage.getBody())) {
+            ValidationResult result = validationService.validateDocument(parser, maxErrors);
+            if (result == null) {
+                throw new MalformedRequestException(parser.currentToken() == null
+                        ? MalformedRequestException.Reason.EMPTY_BODY
+                        : MalformedRequestException.Reason.NOT_AN_OBJECT, inputMessage);
+            }
+            return result;
+        }
+    }
+
+    private static Reader reader(ServletServerHttpRequest inputMessage, MediaType contentType) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new InputStreamReader(inputMessage.getBody(), charset);
+    }
+
+    /**
+     * Validates a JSON document in full like {@code /validate-document} and records it as a
+     * baseline for {@code PATCH /validate-document/baseline/{fingerprint}}. The fingerprint is
+     * returned in the {@value #FINGERPRINT_HEADER} header.
+     */
+    @PostMapping(value = "/validate-document/baseline", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ValidationResult> validateBaseline(
+            HttpServletRequest servletRequest,
+            @ErrorLimit int maxErrors) throws IOException {
+        ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(servletRequest);
+        try (JsonParser parser = objectMapper.createParser(inputMessage.getBody())) {
+            IncrementalValidationService.Validated validated = incrementalValidationService.validate(parser, maxErrors);
+            if (validated == null) {
+                throw new MalformedRequestException(parser.currentToken() == null
+                        ? MalformedRequestException.Reason.EMPTY_BODY
+                        : MalformedRequestException.Reason.NOT_AN_OBJECT, inputMessage);
+            }
+            return withFingerprint(validated);
+        } catch (StreamReadException ex) {
+            throw new MalformedRequestException(MalformedRequestException.Reason.SYNTAX, inputMessage);
+        }
+    }
+
+    /**
+     * Validates a baseline's document with a JSON Patch (RFC 6902) applied, re-running only the
+     * rules that read a changed field. The result is the same as validating the patched document
+     * in full, and is recorded as a baseline in turn, with its fingerprint in
+     * {@value #FINGERPRINT_HEADER}. Supports add, replace and remove; an unknown or expired
+     * fingerprint gets 404, after which the full document must be validated again.
+     */
+    @PatchMapping(value = "/validate-document/baseline/{fingerprint}", consumes = APPLICATION_JSON_PATCH_VALUE)
+    public ResponseEntity<ValidationResult> validatePatch(
+            @PathVariable("fingerprint") String fingerprint,
+            @RequestBody JsonNode patch,
+            @ErrorLimit int maxErrors) {
+        IncrementalValidationService.Validated validated;
+        try {
+            validated = incrementalValidationService.validatePatch(fingerprint, patch, maxErrors);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(
+                    ValidationResult.failure(ErrorCode.MALFORMED_REQUEST, ex.getMessage()));
+        }
+        if (validated == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ValidationResult.failure(
+                    ErrorCode.BASELINE_NOT_FOUND, "Unknown or expired baseline; validate the full document again."));
+        }
+        return withFingerprint(validated);
+    }
+
+    private static ResponseEntity<ValidationResult> withFingerprint(IncrementalValidationService.Validated validated) {
+        return ResponseEntity.ok().header(FINGERPRINT_HEADER, validated.getFingerprint()).body(validated.getResult());
+    }
+
+    /**
+     * Validates each config of a JSON array, reporting results in input order. Batches over
+     * {@code validation.batch.max-size} are rejected with 413.
+     */
+    @PostMapping("/validate-config/batch")
+    public ResponseEntity<BatchValidationResult> validateConfigBatch(@RequestBody List<ConfigRequest> requests) {
+        return ResponseEntity.ok(validationService.validateAll(requests));
+    }
+
+    @PostMapping(value = "/validate-config/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void validateConfigStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ndjsonValidationService.validate(body, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/schema", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSchema(WebRequest request, HttpServletResponse servletResponse,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                            String acceptEncoding) {
+        SchemaCache.RenderedSchema schema = schemaCache.get();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? schema.getGzipEtag() : schema.getEtag();
+        // Set before the conditional check so that a 304 varies like the 200 it stands for.
+        servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (request.checkNotModified(etag)) {
+            // Spring has already set the 304 status and ETag header.
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(schema.getGzipJson());
+        }
+        return response.body(schema.getJson());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                String param = parts.length > 1 ? parts[1].trim() : "";
+                return !param.startsWith("q=") || parseQuality(param.substring(2)) > 0;
+            }
+        }
+        return false;
     }
 
-    @GetMapping("/schema")
-    public ResponseEntity<SchemaDefinition> getSchema() {
-        return ResponseEntity.ok(validationService.getSchema());
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
     }
 
     @GetMapping("/health")
@@ -0,0 +1,291 @@
+package com.example.config_validator_service.controller;
+
+import com.example.config_validator_service.exception.MalformedRequestException;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.json.JsonReadFeature;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads {@link ConfigRequest} and writes {@link ValidationResult} with the streaming parser and
+ * generator directly, skipping reflective databinding for the two types every
+ * {@code /validate-config} call handles.
+ *
+ * <p>The fast path only accepts bodies it can decode exactly like Jackson would: one object
+ * with string, boolean and int tokens in the expected places. Type coercions and wrong types
+ * are handed to the regular {@link JacksonJsonHttpMessageConverter}, so bound values and
+ * binding errors stay the same. Empty bodies and JSON syntax errors, which would fail there
+ * too, are rejected right away with a stackless {@link MalformedRequestException}; bodies that
+ * are cut off or not JSON at all are caught by a byte scan before the parser ever throws.
+ */
+@Component
+public class ValidationJsonConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final JacksonJsonHttpMessageConverter fallback;
+    private final TokenStreamFactory tokenStreamFactory;
+    private final boolean failOnUnknownProperties;
+    private final boolean strictSyntax;
+
+    @Autowired
+    public ValidationJsonConverter(JsonMapper jsonMapper) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.fallback = new JacksonJsonHttpMessageConverter(jsonMapper);
+        this.tokenStreamFactory = jsonMapper.tokenStreamFactory();
+        this.failOnUnknownProperties = jsonMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        // Comments, single quotes and the like would defeat the pre-scan; it only runs for plain JSON.
+        this.strictSyntax = (tokenStreamFactory.getFormatReadFeatures() & ~JsonReadFeature.collectDefaults()) == 0;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == ConfigRequest.class || clazz == ValidationResult.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == ConfigRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == ValidationResult.class && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        if (body.length == 0) {
+            throw new MalformedRequestException(MalformedRequestException.Reason.EMPTY_BODY, inputMessage);
+        }
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        if (charset == null || charset.equals(StandardCharsets.UTF_8)) {
+            if (strictSyntax && isTruncatedOrNotJson(body)) {
+                throw new MalformedRequestException(MalformedRequestException.Reason.SYNTAX, inputMessage);
+            }
+            ConfigRequest request;
+            try {
+                request = decode(body);
+            } catch (StreamReadException e) {
+                throw new MalformedRequestException(MalformedRequestException.Reason.SYNTAX, inputMessage);
+            }
+            if (request != null) {
+                return request;
+            }
+        }
+        return fallback.read(clazz, new BufferedInputMessage(body, inputMessage.getHeaders()));
+    }
+
+    /**
+     * Returns true if the body cannot be JSON: it starts with a byte no JSON value starts with, or
+     * its root object or array is never closed. Garbage and cut-off bodies are the bulk of what a
+     * misbehaving client sends, and this catches them without the parser building an exception.
+     * Only answers what it can decide from brackets and quotes; everything else is left to the
+     * parser.
+     */
+    static boolean isTruncatedOrNotJson(byte[] body) {
+        int i = 0;
+        if (body.length >= 3 && body[0] == (byte) 0xEF && body[1] == (byte) 0xBB && body[2] == (byte) 0xBF) {
+            i = 3;
+        }
+        while (i < body.length && isWhitespace(body[i])) {
+            i++;
+        }
+        if (i == body.length) {
+            return false;
+        }
+        byte first = body[i];
+        if (first != '{' && first != '[') {
+            return first != '"' && first != '-' && (first < '0' || first > '9')
+                    && first != 't' && first != 'f' && first != 'n';
+        }
+        // One bit per open container, set for objects; deeper nesting is left to the parser.
+        long objects = 0;
+        int depth = 0;
+        boolean inString = false;
+        for (; i < body.length; i++) {
+            byte b = body[i];
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                if (depth == Long.SIZE) {
+                    return false;
+                }
+                objects = (objects << 1) | (b == '{' ? 1 : 0);
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (((objects & 1) == 1) != (b == '}')) {
+                    return true;
+                }
+                objects >>>= 1;
+                if (--depth == 0) {
+                    // Whatever follows the root value is up to the trailing-token setting.
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    /**
+     * Decodes the body, or returns null if it is anything but the plain shape.
+     *
+     * @throws StreamReadException if the root object is not valid JSON
+     */
+    ConfigRequest decode(byte[] body) {
+        String environment = null;
+        Boolean debug = null;
+        Integer maxConnections = null;
+        String adminPassword = null;
+        try (JsonParser parser = tokenStreamFactory.createParser(ObjectReadContext.empty(), body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "environment":
+                        if (!isText(value)) {
+                            return null;
+                        }
+                        environment = parser.getValueAsString();
+                        break;
+                    case "debug":
+                        if (value != JsonToken.VALUE_TRUE && value != JsonToken.VALUE_FALSE
+                                && value != JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        debug = value == JsonToken.VALUE_NULL ? null : value == JsonToken.VALUE_TRUE;
+                        break;
+                    case "maxConnections":
+                        if (value == JsonToken.VALUE_NULL) {
+                            maxConnections = null;
+                        } else if (value == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() == JsonParser.NumberType.INT) {
+                            maxConnections = parser.getIntValue();
+                        } else {
+                            return null;
+                        }
+                        break;
+                    case "adminPassword":
+                        if (!isText(value)) {
+                            return null;
+                        }
+                        adminPassword = parser.getValueAsString();
+                        break;
+                    default:
+                        if (failOnUnknownProperties) {
+                            return null;
+                        }
+                        parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT || hasTrailingContent(parser)) {
+                return null;
+            }
+        }
+        return new ConfigRequest(environment, debug, maxConnections, adminPassword);
+    }
+
+    // Whether trailing content is an error depends on databinding settings; leave it to Jackson.
+    private static boolean hasTrailingContent(JsonParser parser) {
+        try {
+            return parser.nextToken() != null;
+        } catch (JacksonException e) {
+            return true;
+        }
+    }
+
+    private static boolean isText(JsonToken token) {
+        return token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NULL;
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        ValidationResult result = (ValidationResult) object;
+        // The caller owns the response stream; closing the generator must only flush it.
+        try (JsonGenerator generator = tokenStreamFactory.createGenerator(ObjectWriteContext.empty(),
+                StreamUtils.nonClosing(outputMessage.getBody()))) {
+            generator.writeStartObject();
+            generator.writeStringProperty("status", result.getStatus());
+            generator.writeName("errors");
+            generator.writeStartArray();
+            for (Violation violation : result.getViolations()) {
+                generator.writeString(violation.getMessage());
+            }
+            generator.writeEndArray();
+            generator.writeName("violations");
+            generator.writeStartArray();
+            for (Violation violation : result.getViolations()) {
+                generator.writeStartObject();
+                generator.writeStringProperty("code", violation.getCode().name());
+                if (violation.getField() != null) {
+                    generator.writeStringProperty("field", violation.getField());
+                    generator.writeStringProperty("path", violation.getPath());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static final class BufferedInputMessage implements HttpInputMessage {
+        private final byte[] body;
+        private final HttpHeaders headers;
+
+        BufferedInputMessage(byte[] body, HttpHeaders headers) {
+            this.body = body;
+            this.headers = headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
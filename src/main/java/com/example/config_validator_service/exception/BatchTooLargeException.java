@@ -0,0 +1,26 @@
+package com.example.config_validator_service.exception;
+
+/**
+ * A batch with more configs than {@code validation.batch.max-size} allows, answered with 413.
+ */
+public class BatchTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int size;
+    private final int maxSize;
+
+    public BatchTooLargeException(int size, int maxSize) {
+        super("Batch of " + size + " configs exceeds the limit of " + maxSize + ".");
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
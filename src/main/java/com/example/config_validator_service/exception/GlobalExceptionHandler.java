@@ -1,32 +1,156 @@
 package com.example.config_validator_service.exception;
 
+import com.example.config_validator_service.exception.MalformedRequestException.Reason;
+import com.example.config_validator_service.model.ErrorCode;
 import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.InputCoercionException;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.DatabindException;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String MALFORMED_PREFIX = "Malformed request or invalid data types: ";
+    private static final String REQUIRED_BODY_MISSING = "Required request body is missing";
+    // Field names come from the client; only short ones are echoed and only this many are cached.
+    private static final int MAX_FIELD_LENGTH = 64;
+    // Other text that may quote the client, e.g. a parameter value, is cut to this length.
+    private static final int MAX_ECHO_LENGTH = 200;
+    private static final int MAX_CACHED_FIELDS = 64;
+
+    private final Map<Reason, ResponseEntity<ValidationResult>> malformedResponses = new EnumMap<>(Reason.class);
+    private final Map<Reason, Counter> malformedCounters = new EnumMap<>(Reason.class);
+    private final Map<String, ResponseEntity<ValidationResult>> typeMismatchByField = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (Reason reason : Reason.values()) {
+            malformedResponses.put(reason, malformed(reason, null));
+            malformedCounters.put(reason, Counter.builder("validation.requests.malformed")
+                    .description("Request bodies rejected before validation")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Rejects unreadable bodies with a pre-built response per failure class, so a flood of bad
+     * input costs a lookup and a counter increment; the parser's message is never copied into
+     * the response. Structural errors are a client error, hence 400, but the body still follows
+     * the validation result contract.
+     */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ValidationResult> handleMalformedJson(HttpMessageNotReadableException ex) {
-        // Return a FAIL status with a descriptive error message
-        ValidationResult result = new ValidationResult("FAIL", Collections.singletonList("Malformed JSON request or invalid data types: " + ex.getMessage()));
-        // Note: The user might prefer 400 Bad Request, but the Validation Output Contract says "Enumerate all rule violations in a single response" and "Clearly indicate success or failure".
-        // Returning 200 OK with FAIL status fits the "Validation Result" pattern, but technically it's a client error.
-        // However, usually for "Validation Service" where the input is syntactically wrong, 400 is appropriate.
-        // The prompt says "Validation failures must not crash the service".
-        // Let's stick to 400 for structural errors but ensure the BODY follows the contract.
+        Reason reason = classify(ex);
+        malformedCounters.get(reason).increment();
+        if (reason == Reason.TYPE_MISMATCH) {
+            String field = offendingField(ex.getCause());
+            if (field != null) {
+                ResponseEntity<ValidationResult> response = typeMismatchByField.get(field);
+                if (response == null && typeMismatchByField.size() < MAX_CACHED_FIELDS) {
+                    response = typeMismatchByField.computeIfAbsent(field, f -> malformed(Reason.TYPE_MISMATCH, f));
+                }
+                if (response != null) {
+                    return response;
+                }
+            }
+        }
+        return malformedResponses.get(reason);
+    }
+
+    static Reason classify(HttpMessageNotReadableException ex) {
+        if (ex instanceof MalformedRequestException) {
+            return ((MalformedRequestException) ex).getReason();
+        }
+        Throwable cause = ex.getCause();
+        if (cause instanceof DatabindException || cause instanceof InputCoercionException) {
+            return Reason.TYPE_MISMATCH;
+        }
+        if (cause instanceof StreamReadException) {
+            return Reason.SYNTAX;
+        }
+        if (cause == null && ex.getMessage() != null && ex.getMessage().startsWith(REQUIRED_BODY_MISSING)) {
+            return Reason.EMPTY_BODY;
+        }
+        return Reason.UNREADABLE;
+    }
+
+    private static String offendingField(Throwable cause) {
+        if (!(cause instanceof JacksonException)) {
+            return null;
+        }
+        List<JacksonException.Reference> path = ((JacksonException) cause).getPath();
+        if (path.isEmpty()) {
+            return null;
+        }
+        String field = path.get(0).getPropertyName();
+        return field != null && field.length() <= MAX_FIELD_LENGTH ? field : null;
+    }
+
+    private static ResponseEntity<ValidationResult> malformed(Reason reason, String field) {
+        ValidationResult result = new ValidationResult("FAIL", Collections.singletonList(
+                Violation.of(ErrorCode.MALFORMED_REQUEST, field, MALFORMED_PREFIX + reason.getDetail())));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ValidationResult> handleBadParameter(MethodArgumentTypeMismatchException ex) {
+        ValidationResult result = ValidationResult.failure(ErrorCode.MALFORMED_REQUEST,
+                "Invalid value for parameter '" + ex.getName() + "': " + truncate(String.valueOf(ex.getValue())));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+    }
+
+    @ExceptionHandler(ServletRequestBindingException.class)
+    public ResponseEntity<ValidationResult> handleBadRequestOption(ServletRequestBindingException ex) {
+        ValidationResult result = ValidationResult.failure(ErrorCode.MALFORMED_REQUEST, truncate(ex.getMessage()));
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
     }
 
+    private static String truncate(String text) {
+        return text == null || text.length() <= MAX_ECHO_LENGTH ? text : text.substring(0, MAX_ECHO_LENGTH) + "...";
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ValidationResult> handleBatchTooLarge(BatchTooLargeException ex) {
+        ValidationResult result = ValidationResult.failure(ErrorCode.BATCH_TOO_LARGE, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(result);
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ValidationResult> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException ex) {
+        ValidationResult result = ValidationResult.failure(ErrorCode.MALFORMED_REQUEST,
+                "Unsupported Content-Type '" + ex.getContentType() + "'; supported: "
+                        + MediaType.toString(ex.getSupportedMediaTypes()));
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .header(HttpHeaders.ACCEPT, MediaType.toString(ex.getSupportedMediaTypes()))
+                .body(result);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ValidationResult> handleGenericException(Exception ex) {
-        ValidationResult result = new ValidationResult("FAIL", Collections.singletonList("Internal server error: " + ex.getMessage()));
+        ValidationResult result = ValidationResult.failure(ErrorCode.INTERNAL_ERROR, "Internal server error: " + ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
     }
 }
@@ -0,0 +1,51 @@
+package com.example.config_validator_service.exception;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * A request body rejected before databinding, thrown without a stack trace so that floods of
+ * garbage input stay cheap. The message is a constant per {@link Reason}.
+ */
+public class MalformedRequestException extends HttpMessageNotReadableException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Failure classes reported by {@link GlobalExceptionHandler}, each with a fixed detail message.
+     * Messages name no format, since bodies may be JSON, YAML, TOML or properties.
+     */
+    public enum Reason {
+        EMPTY_BODY("request body is missing."),
+        SYNTAX("request body is not well-formed."),
+        NOT_AN_OBJECT("request body must be an object."),
+        TYPE_MISMATCH("a field has the wrong type."),
+        UNREADABLE("request body could not be read.");
+
+        private final String detail;
+
+        Reason(String detail) {
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+
+    private final Reason reason;
+
+    public MalformedRequestException(Reason reason, HttpInputMessage inputMessage) {
+        super(reason.getDetail(), inputMessage);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
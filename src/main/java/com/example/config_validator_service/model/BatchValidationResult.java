@@ -0,0 +1,25 @@
+package com.example.config_validator_service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidationResult {
+    private String status;
+    private Summary summary;
+    private List<ValidationResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private int total;
+        private int passed;
+        private int failed;
+    }
+}
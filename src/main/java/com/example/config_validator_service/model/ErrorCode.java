@@ -0,0 +1,26 @@
+package com.example.config_validator_service.model;
+
+/**
+ * Machine-readable reason for a {@link Violation}, stable across message wording changes.
+ */
+public enum ErrorCode {
+    REQUIRED,
+    INVALID_TYPE,
+    NOT_ALLOWED,
+    OUT_OF_RANGE,
+    /** A rule needs another field, e.g. a range chosen by environment, and that field is missing. */
+    DEPENDENCY_MISSING,
+    FORBIDDEN_VALUE,
+    WEAK_PASSWORD,
+    NULL_ENTRY,
+    MALFORMED_REQUEST,
+    INTERNAL_ERROR,
+    /** The request was shed under load before validation; retry after the {@code Retry-After} delay. */
+    OVERLOADED,
+    /** A batch holds more configs than the service accepts in one request; split it up. */
+    BATCH_TOO_LARGE,
+    /** The baseline fingerprint of an incremental validation is unknown or has expired; validate the full document again. */
+    BASELINE_NOT_FOUND,
+    /** The code was not reported, e.g. a result read from JSON that only carries messages. */
+    UNKNOWN
+}
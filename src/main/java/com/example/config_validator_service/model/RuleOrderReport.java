@@ -0,0 +1,45 @@
+package com.example.config_validator_service.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The order in which fail-fast and {@code maxErrors} validations evaluate rules, with the
+ * measurements it was derived from. Estimates stay null until a rule has enough timed samples.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"version", "tuning", "measured", "reorders", "expectedNanosPerFailFast", "rules"})
+public class RuleOrderReport {
+    private String version;
+    private boolean tuning;
+    private boolean measured;
+    private long reorders;
+    private Double expectedNanosPerFailFast;
+    private List<RuleStats> rules;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({"field", "rule", "dependsOn", "evaluations", "rejections", "timedSamples",
+        "nanosPerEvaluation", "rejectionRate", "rank"})
+    public static class RuleStats {
+        private String field;
+        private String rule;
+        private List<String> dependsOn;
+        private long evaluations;
+        private long rejections;
+        private long timedSamples;
+        private Double nanosPerEvaluation;
+        private Double rejectionRate;
+        private Double rank;
+    }
+}
@@ -1,23 +1,17 @@
 package com.example.config_validator_service.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.util.Map;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class SchemaDefinition {
-    private Map<String, FieldDefinition> fields;
+    Map<String, FieldDefinition> fields;
 
-    @Data
-    @NoArgsConstructor
-    @AllArgsConstructor
+    @Value
     public static class FieldDefinition {
-        private String type;
-        private String description;
-        private String constraints;
+        String type;
+        String description;
+        String constraints;
     }
 }
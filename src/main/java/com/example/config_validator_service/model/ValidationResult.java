@@ -1,15 +1,64 @@
 package com.example.config_validator_service.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Value;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * Outcome of validating one config. Immutable, so a single instance can be shared, e.g. by
+ * the result cache.
+ *
+ * <p>{@code errors} holds the rendered messages as before; {@code violations} carries the
+ * matching codes and fields so clients need not parse the messages.
+ */
+@Value
+@JsonPropertyOrder({"status", "errors", "violations"})
 public class ValidationResult {
-    private String status;
-    private List<String> errors;
+    String status;
+    List<Violation> violations;
+
+    public ValidationResult(String status, List<Violation> violations) {
+        this.status = status;
+        this.violations = violations == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Creates a FAIL result with a single violation that is not tied to a field.
+     */
+    public static ValidationResult failure(ErrorCode code, String message) {
+        return new ValidationResult("FAIL", Collections.singletonList(Violation.of(code, null, message)));
+    }
+
+    @JsonCreator
+    static ValidationResult fromJson(@JsonProperty("status") String status,
+                                     @JsonProperty("errors") List<String> errors,
+                                     @JsonProperty("violations") List<Violation> violations) {
+        List<Violation> merged = new ArrayList<>();
+        int count = errors != null ? errors.size() : 0;
+        for (int i = 0; i < count; i++) {
+            Violation violation = violations != null && i < violations.size()
+                    ? violations.get(i)
+                    : Violation.of(ErrorCode.UNKNOWN, null, null);
+            merged.add(violation.withMessage(errors.get(i)));
+        }
+        return new ValidationResult(status, merged);
+    }
+
+    /**
+     * Returns the messages of all violations, rendered on each call.
+     */
+    public List<String> getErrors() {
+        List<String> errors = new ArrayList<>(violations.size());
+        for (Violation violation : violations) {
+            errors.add(violation.getMessage());
+        }
+        return Collections.unmodifiableList(errors);
+    }
 }
@@ -0,0 +1,123 @@
+package com.example.config_validator_service.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Objects;
+
+/**
+ * One rule violation: an {@link ErrorCode}, the offending field and a message template.
+ *
+ * <p>Rules build their violations once when compiled and hand out the same instance on every
+ * failure. Only messages that embed a request value take an argument, and those are joined
+ * when {@link #getMessage()} is called, normally at serialization time.
+ *
+ * <p>Field names address nested documents with dots, e.g. {@code db.pool.maxConnections};
+ * {@link #getPath()} gives the same location as a JSON pointer.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"code", "field", "path"})
+public final class Violation {
+
+    private final ErrorCode code;
+    private final String field;
+    private final String path;
+    private final String prefix;
+    private final Object argument;
+    private final String suffix;
+
+    private Violation(ErrorCode code, String field, String prefix, Object argument, String suffix) {
+        this.code = Objects.requireNonNull(code, "code");
+        this.field = field;
+        this.path = field != null ? toJsonPointer(field) : null;
+        this.prefix = prefix;
+        this.argument = argument;
+        this.suffix = suffix;
+    }
+
+    public static Violation of(ErrorCode code, String field, String message) {
+        return new Violation(code, field, message, null, null);
+    }
+
+    /**
+     * Creates a violation whose message is {@code prefix + argument + suffix}.
+     */
+    public static Violation of(ErrorCode code, String field, String prefix, Object argument, String suffix) {
+        return new Violation(code, field, prefix, argument, suffix);
+    }
+
+    @JsonCreator
+    static Violation fromJson(@JsonProperty("code") ErrorCode code, @JsonProperty("field") String field) {
+        return new Violation(code != null ? code : ErrorCode.UNKNOWN, field, null, null, null);
+    }
+
+    Violation withMessage(String message) {
+        return new Violation(code, field, message, null, null);
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Returns the field's location as an RFC 6901 JSON pointer, e.g. {@code /db/pool/maxConnections}.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Converts a dotted field name to a JSON pointer.
+     */
+    public static String toJsonPointer(String field) {
+        StringBuilder pointer = new StringBuilder(field.length() + 1).append('/');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '.') {
+                pointer.append('/');
+            } else if (c == '~') {
+                pointer.append("~0");
+            } else if (c == '/') {
+                pointer.append("~1");
+            } else {
+                pointer.append(c);
+            }
+        }
+        return pointer.toString();
+    }
+
+    @JsonIgnore
+    public String getMessage() {
+        return suffix == null ? prefix : prefix + argument + suffix;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Violation)) {
+            return false;
+        }
+        Violation other = (Violation) o;
+        return code == other.code && Objects.equals(field, other.field)
+                && Objects.equals(getMessage(), other.getMessage());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, field, getMessage());
+    }
+
+    @Override
+    public String toString() {
+        return code + ": " + getMessage();
+    }
+}
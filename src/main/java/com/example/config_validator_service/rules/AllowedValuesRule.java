@@ -0,0 +1,44 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+final class AllowedValuesRule extends Rule {
+
+    // A handful of values: a linear equals() scan beats hashing.
+    private final String[] allowed;
+    private final Violation violation;
+
+    AllowedValuesRule(int slot, String field, List<String> allowed) {
+        super(slot, field);
+        this.allowed = allowed.toArray(new String[0]);
+        this.violation = Violation.of(ErrorCode.NOT_ALLOWED, field,
+                "Field '" + field + "' must be one of: " + String.join(", ", allowed) + ".");
+    }
+
+    @Override
+    String kind() {
+        return "allowedValues";
+    }
+
+    @Override
+    int cost() {
+        return 4;
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        Object value = values[slot];
+        if (value == null) {
+            return;
+        }
+        for (String candidate : allowed) {
+            if (candidate.equals(value)) {
+                return;
+            }
+        }
+        violations.add(violation);
+    }
+}
@@ -0,0 +1,543 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Executable form of a {@link RuleSetDefinition}: a flat array of rules bound to field
+ * slots, run by a {@link RuleProgram}. Safe to share between threads; only the order of limited
+ * runs, and with it the program, changes after construction, see
+ * {@link #reorder(double[], double[])}.
+ */
+public final class CompiledRuleSet {
+
+    /** Error limit that evaluates every rule and reports all violations. */
+    public static final int ALL_ERRORS = Integer.MAX_VALUE;
+
+    // Rejection rate assumed for every rule until measured, so that cost alone decides the order.
+    private static final double UNMEASURED_REJECTION_RATE = 1e-6;
+
+    private final String version;
+    private final String[] fieldNames;
+    private final ConfigRequestField[] requestFields;
+    private final JsonDocumentBinder documentBinder;
+    private final TomlDocumentBinder tomlBinder;
+    private final PropertiesDocumentBinder propertiesBinder;
+    private final JsonPatchBinder patchBinder;
+    private final Rule[] rules;
+    private final RuleCompiler.Backend backend;
+    // The dependency graph: the slots each rule reads, and the rules that read each slot.
+    private final int[][] ruleInputs;
+    private final int[][] rulesBySlot;
+    // The rules reading a sensitive slot, which cannot be re-run unless that slot is set again.
+    private final boolean[] readsSensitive;
+    // The single-field rules checking a field each rule depends on; limited runs evaluate them first.
+    private final int[][] predecessors;
+    private volatile Execution execution;
+    private final boolean[] sensitive;
+    private final SchemaDefinition schema;
+
+    CompiledRuleSet(String version, String[] fieldNames, FieldType[] types, Rule[] rules,
+                    boolean[] sensitive, SchemaDefinition schema, RuleCompiler.Backend backend) {
+        this.version = version;
+        this.fieldNames = fieldNames;
+        this.rules = rules;
+        this.backend = backend;
+        this.sensitive = sensitive;
+        this.schema = schema;
+        this.requestFields = new ConfigRequestField[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            requestFields[i] = ConfigRequestField.forName(fieldNames[i]);
+        }
+        FieldPathTrie paths = new FieldPathTrie(fieldNames);
+        this.documentBinder = new JsonDocumentBinder(paths);
+        this.tomlBinder = new TomlDocumentBinder(paths);
+        this.propertiesBinder = new PropertiesDocumentBinder(fieldNames, types);
+        this.patchBinder = new JsonPatchBinder(paths);
+        this.ruleInputs = new int[rules.length][];
+        for (int i = 0; i < rules.length; i++) {
+            ruleInputs[i] = rules[i].inputs();
+        }
+        this.rulesBySlot = new int[fieldNames.length][];
+        for (int slot = 0; slot < fieldNames.length; slot++) {
+            int input = slot;
+            rulesBySlot[slot] = IntStream.range(0, rules.length)
+                    .filter(i -> IntStream.of(ruleInputs[i]).anyMatch(s -> s == input))
+                    .toArray();
+        }
+        this.readsSensitive = new boolean[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            readsSensitive[i] = IntStream.of(ruleInputs[i]).anyMatch(slot -> sensitive[slot]);
+        }
+        this.predecessors = new int[rules.length][];
+        for (int i = 0; i < rules.length; i++) {
+            int rule = i;
+            predecessors[i] = IntStream.range(0, rules.length)
+                    .filter(j -> ruleInputs[j].length == 1 && rules[j].slot != rules[rule].slot
+                            && IntStream.of(ruleInputs[rule]).anyMatch(s -> s == rules[j].slot))
+                    .toArray();
+        }
+        double[] costs = new double[rules.length];
+        double[] rejectionRates = new double[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            costs[i] = rules[i].cost();
+            rejectionRates[i] = UNMEASURED_REJECTION_RATE;
+        }
+        this.execution = execution(order(costs, rejectionRates));
+    }
+
+    public ValidationResult validate(ConfigRequest request) {
+        return validate(bind(request));
+    }
+
+    /**
+     * Validates field values laid out in slot order (see {@link #slotOf(String)}).
+     */
+    public ValidationResult validate(Object[] values) {
+        List<Violation> errors = new ArrayList<>();
+        execution.program.run(values, errors, ALL_ERRORS, null);
+        return result(errors);
+    }
+
+    /**
+     * Validates the values, stopping once {@code maxErrors} violations are found. Limited runs
+     * evaluate rules in {@link #getLimitedOrder()}, so which violations are reported may differ
+     * from the first {@code maxErrors} of a full run.
+     *
+     * @param maxErrors at least 1; 1 is fail-fast, {@link #ALL_ERRORS} evaluates every rule
+     */
+    public ValidationResult validate(Object[] values, int maxErrors) {
+        if (maxErrors == ALL_ERRORS) {
+            return validate(values);
+        }
+        checkLimit(maxErrors);
+        List<Violation> errors = new ArrayList<>(Math.min(maxErrors, rules.length));
+        execution.program.runLimited(values, errors, maxErrors, null);
+        return result(errors);
+    }
+
+    ValidationResult validate(Object[] values, RuleMeters[] meters, boolean timed, int maxErrors) {
+        checkLimit(maxErrors);
+        List<Violation> errors = new ArrayList<>();
+        MeteredRun run = new MeteredRun(meters, timed);
+        if (maxErrors == ALL_ERRORS) {
+            execution.program.run(values, errors, maxErrors, run);
+        } else {
+            execution.program.runLimited(values, errors, maxErrors, run);
+        }
+        return result(errors);
+    }
+
+    /**
+     * Records each rule a run applies on its meters. The clock is read right before and after the
+     * rule, so a rule's time never includes the metering of the one before it; otherwise every
+     * rule but the first would be charged for it, and the tuner would favour whichever rule runs
+     * first.
+     */
+    private static final class MeteredRun implements RuleProgram.Observer {
+
+        private final RuleMeters[] meters;
+        private final boolean timed;
+        private long start;
+
+        MeteredRun(RuleMeters[] meters, boolean timed) {
+            this.meters = meters;
+            this.timed = timed;
+        }
+
+        @Override
+        public void applying(int rule) {
+            if (timed) {
+                start = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void applied(int rule, int violationsAdded) {
+            long end = timed ? System.nanoTime() : 0;
+            RuleMeters ruleMeters = meters[rule];
+            if (violationsAdded == 0) {
+                ruleMeters.passed.increment();
+            } else {
+                ruleMeters.failed.increment();
+            }
+            if (timed) {
+                ruleMeters.duration.record(end - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Runs every rule and keeps each rule's violations, so that the outcome for changed values
+     * can later be derived with {@link #reevaluate(RuleOutcomes, Object[], boolean[])}.
+     */
+    public RuleOutcomes evaluate(Object[] values) {
+        Violation[][] byRule = new Violation[rules.length][];
+        List<Violation> scratch = new ArrayList<>();
+        for (int i = 0; i < rules.length; i++) {
+            byRule[i] = apply(i, values, scratch);
+        }
+        return new RuleOutcomes(this, byRule, rules.length);
+    }
+
+    /**
+     * Derives the outcomes for {@code values}, which differ from the baseline's values only in
+     * the {@code changed} slots. Only rules that read a changed slot, directly or as a
+     * dependency such as the field a range is chosen by, are run; every other rule reads the
+     * same values as before, so its outcome is carried over. Rules never read each other's
+     * results, so nothing is affected transitively. When most rules read a changed slot, this
+     * runs as {@link #reevaluateAll(RuleOutcomes, Object[], boolean[])} does instead.
+     *
+     * @throws IllegalArgumentException if the baseline was evaluated by another rule set
+     */
+    public RuleOutcomes reevaluate(RuleOutcomes baseline, Object[] values, boolean[] changed) {
+        checkBaseline(baseline);
+        boolean[] affected = affectedRules(changed);
+        int count = 0;
+        for (boolean rule : affected) {
+            if (rule) {
+                count++;
+            }
+        }
+        if (count * 2 > rules.length) {
+            return runAll(baseline, values, affected);
+        }
+        Violation[][] byRule = baseline.byRule.clone();
+        List<Violation> scratch = new ArrayList<>();
+        for (int i = 0; i < rules.length; i++) {
+            if (affected[i]) {
+                byRule[i] = apply(i, values, scratch);
+            }
+        }
+        return new RuleOutcomes(this, byRule, count);
+    }
+
+    /**
+     * Derives the same outcomes as {@link #reevaluate(RuleOutcomes, Object[], boolean[])} by
+     * running every rule, as {@link #evaluate(Object[])} does, except those reading a sensitive
+     * slot that did not change: a baseline need not keep sensitive values, so their outcomes are
+     * carried over. For small rule sets this is cheaper than working out which rules to skip.
+     *
+     * @throws IllegalArgumentException if the baseline was evaluated by another rule set
+     */
+    public RuleOutcomes reevaluateAll(RuleOutcomes baseline, Object[] values, boolean[] changed) {
+        checkBaseline(baseline);
+        return runAll(baseline, values, affectedRules(changed));
+    }
+
+    private RuleOutcomes runAll(RuleOutcomes baseline, Object[] values, boolean[] affected) {
+        Violation[][] byRule = new Violation[rules.length][];
+        List<Violation> scratch = new ArrayList<>();
+        int evaluated = 0;
+        for (int i = 0; i < rules.length; i++) {
+            if (readsSensitive[i] && !affected[i]) {
+                byRule[i] = baseline.byRule[i];
+            } else {
+                byRule[i] = apply(i, values, scratch);
+                evaluated++;
+            }
+        }
+        return new RuleOutcomes(this, byRule, evaluated);
+    }
+
+    private void checkBaseline(RuleOutcomes baseline) {
+        if (baseline.ruleSet != this) {
+            throw new IllegalArgumentException("Baseline was evaluated by rule set " + baseline.ruleSet.version);
+        }
+    }
+
+    /**
+     * Returns the slots that {@link #reevaluate(RuleOutcomes, Object[], boolean[])} reads for
+     * these changes: the inputs of every rule that reads a changed slot.
+     */
+    public boolean[] slotsReadFor(boolean[] changed) {
+        boolean[] affected = affectedRules(changed);
+        boolean[] read = new boolean[fieldNames.length];
+        for (int i = 0; i < rules.length; i++) {
+            if (affected[i]) {
+                for (int slot : ruleInputs[i]) {
+                    read[slot] = true;
+                }
+            }
+        }
+        return read;
+    }
+
+    private boolean[] affectedRules(boolean[] changed) {
+        boolean[] affected = new boolean[rules.length];
+        for (int slot = 0; slot < changed.length; slot++) {
+            if (changed[slot]) {
+                for (int i : rulesBySlot[slot]) {
+                    affected[i] = true;
+                }
+            }
+        }
+        return affected;
+    }
+
+    private Violation[] apply(int rule, Object[] values, List<Violation> scratch) {
+        scratch.clear();
+        execution.program.apply(rule, values, scratch);
+        return scratch.isEmpty() ? RuleOutcomes.NONE : scratch.toArray(RuleOutcomes.NONE);
+    }
+
+    ValidationResult result(RuleOutcomes outcomes, int maxErrors) {
+        List<Violation> errors = new ArrayList<>();
+        if (maxErrors == ALL_ERRORS) {
+            for (Violation[] violations : outcomes.byRule) {
+                Collections.addAll(errors, violations);
+            }
+            return result(errors);
+        }
+        checkLimit(maxErrors);
+        // Same order and cut-off as validate(values, maxErrors).
+        for (int index : execution.order) {
+            Collections.addAll(errors, outcomes.byRule[index]);
+            if (errors.size() >= maxErrors) {
+                break;
+            }
+        }
+        return result(errors);
+    }
+
+    /**
+     * Returns the rule indexes in the order limited runs evaluate them. Initially the cheapest
+     * rules by {@link Rule#cost()} come first; {@link RuleOrderTuner} replaces that with measured
+     * costs and rejection rates.
+     */
+    public int[] getLimitedOrder() {
+        return execution.order.clone();
+    }
+
+    /**
+     * Returns a number that changes whenever {@link #getLimitedOrder()} does, so that results of
+     * limited runs can be cached per order.
+     */
+    public int getOrderGeneration() {
+        return execution.generation;
+    }
+
+    /**
+     * Orders limited runs for the least expected work until the first rejection: by ascending
+     * cost per rejection, {@code costs[i] / rejectionRates[i]}, which is optimal for independent
+     * rules. A rule that reads another field, such as the {@code environment} a
+     * {@code maxConnections} range is chosen by, always follows the rules checking that field by
+     * itself, so a fail-fast run reports the invalid {@code environment} rather than a range picked
+     * by it. Such a rule is ranked together with those of its prerequisites not yet placed, so a
+     * selective rule pulls forward the cheap checks it has to wait for. Ties keep the
+     * declaration order. A new order comes with a new {@link RuleProgram} for it.
+     *
+     * @param costs the expected cost of one evaluation of each rule, in any unit
+     * @param rejectionRates the share of evaluations each rule rejects, above zero
+     * @return whether the order changed
+     */
+    boolean reorder(double[] costs, double[] rejectionRates) {
+        int[] order = order(costs, rejectionRates);
+        if (Arrays.equals(order, execution.order)) {
+            return false;
+        }
+        execution = execution(order);
+        return true;
+    }
+
+    private Execution execution(int[] order) {
+        RuleProgram program = backend == RuleCompiler.Backend.GENERATED
+                ? RuleProgramGenerator.generate(rules, order)
+                : RuleProgram.interpreted(rules, order);
+        Execution previous = execution;
+        return new Execution(order, program, previous == null ? 0 : previous.generation + 1);
+    }
+
+    /**
+     * The limited order and the program built for it, replaced together so that a run never
+     * mixes the two.
+     */
+    private static final class Execution {
+
+        final int[] order;
+        final RuleProgram program;
+        final int generation;
+
+        Execution(int[] order, RuleProgram program, int generation) {
+            this.order = order;
+            this.program = program;
+            this.generation = generation;
+        }
+    }
+
+    private int[] order(double[] costs, double[] rejectionRates) {
+        boolean[] placed = new boolean[rules.length];
+        int[] order = new int[rules.length];
+        int n = 0;
+        while (n < rules.length) {
+            int[] best = null;
+            double bestRank = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < rules.length; i++) {
+                if (placed[i]) {
+                    continue;
+                }
+                int[] chain = chain(i, placed, costs, rejectionRates);
+                // Expected cost of running the chain, over the chance that it rejects.
+                double cost = 0;
+                double reached = 1;
+                for (int rule : chain) {
+                    cost += reached * costs[rule];
+                    reached *= 1 - rejectionRates[rule];
+                }
+                double rank = cost / (1 - reached);
+                if (best == null || rank < bestRank) {
+                    best = chain;
+                    bestRank = rank;
+                }
+            }
+            for (int rule : best) {
+                placed[rule] = true;
+                order[n++] = rule;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Returns the rule preceded by its unplaced prerequisites, best-ranked first. Prerequisites
+     * are single-field rules and have none of their own, so the graph has no cycles.
+     */
+    private int[] chain(int rule, boolean[] placed, double[] costs, double[] rejectionRates) {
+        return IntStream.concat(
+                        IntStream.of(predecessors[rule]).filter(i -> !placed[i]).boxed()
+                                .sorted(Comparator.comparingDouble(i -> costs[i] / rejectionRates[i]))
+                                .mapToInt(Integer::intValue),
+                        IntStream.of(rule))
+                .toArray();
+    }
+
+    private static void checkLimit(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1");
+        }
+    }
+
+    private static ValidationResult result(List<Violation> errors) {
+        return new ValidationResult(errors.isEmpty() ? "PASS" : "FAIL", errors);
+    }
+
+    public Object[] bind(ConfigRequest request) {
+        Object[] values = new Object[requestFields.length];
+        for (int i = 0; i < requestFields.length; i++) {
+            ConfigRequestField field = requestFields[i];
+            if (field != null) {
+                values[i] = field.get(request);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads the field values of a whole JSON document in one streaming pass; see
+     * {@link JsonDocumentBinder}. The parser must be positioned before the document root. Any
+     * Jackson streaming parser works, e.g. one for YAML.
+     *
+     * @return the values in slot order, or null if the document is not a single JSON object
+     * @throws tools.jackson.core.exc.StreamReadException if the document is not valid JSON
+     */
+    public Object[] bind(JsonParser document) {
+        return documentBinder.bind(document);
+    }
+
+    /**
+     * Reads the field values of a whole TOML document in one streaming pass; see
+     * {@link TomlDocumentBinder}.
+     *
+     * @throws tools.jackson.core.exc.StreamReadException if the document is not valid TOML
+     */
+    public Object[] bindToml(Reader document) throws IOException {
+        return tomlBinder.bind(document);
+    }
+
+    /**
+     * Reads the field values of a whole {@code .properties} document in one streaming pass,
+     * converting text to the declared field types; see {@link PropertiesDocumentBinder}.
+     *
+     * @throws tools.jackson.core.exc.StreamReadException if the document has a malformed escape
+     */
+    public Object[] bindProperties(Reader document) throws IOException {
+        return propertiesBinder.bind(document);
+    }
+
+    /**
+     * Applies a JSON Patch to values bound from a JSON document, as if the patched document had
+     * been bound instead, and returns which slots changed; see {@link JsonPatchBinder}.
+     *
+     * @throws IllegalArgumentException if the patch is malformed or uses an operation other
+     *     than add, replace or remove
+     */
+    public boolean[] patch(Object[] values, JsonNode operations) {
+        return patchBinder.apply(operations, values);
+    }
+
+    /**
+     * Returns the slot index of the named field, or -1 if the rule set does not declare it.
+     */
+    public int slotOf(String fieldName) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i].equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public String getFieldName(int slot) {
+        return fieldNames[slot];
+    }
+
+    /**
+     * Returns whether the value in the slot is secret and must not be retained, e.g. a password.
+     */
+    public boolean isSensitive(int slot) {
+        return sensitive[slot];
+    }
+
+    Rule[] rules() {
+        return rules;
+    }
+
+    /**
+     * Returns whether the rules run as generated code rather than interpreted; see
+     * {@link RuleCompiler.Backend}.
+     */
+    public boolean isGenerated() {
+        return execution.program.isGenerated();
+    }
+
+    public int getRuleCount() {
+        return rules.length;
+    }
+
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public SchemaDefinition getSchema() {
+        return schema;
+    }
+}
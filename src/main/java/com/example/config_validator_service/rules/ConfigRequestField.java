@@ -0,0 +1,50 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ConfigRequest;
+
+/**
+ * Binds rule-set field names to {@link ConfigRequest} getters, resolved once at compile time.
+ */
+enum ConfigRequestField {
+    ENVIRONMENT("environment") {
+        @Override
+        Object get(ConfigRequest request) {
+            return request.getEnvironment();
+        }
+    },
+    DEBUG("debug") {
+        @Override
+        Object get(ConfigRequest request) {
+            return request.getDebug();
+        }
+    },
+    MAX_CONNECTIONS("maxConnections") {
+        @Override
+        Object get(ConfigRequest request) {
+            return request.getMaxConnections();
+        }
+    },
+    ADMIN_PASSWORD("adminPassword") {
+        @Override
+        Object get(ConfigRequest request) {
+            return request.getAdminPassword();
+        }
+    };
+
+    private final String fieldName;
+
+    ConfigRequestField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    abstract Object get(ConfigRequest request);
+
+    static ConfigRequestField forName(String name) {
+        for (ConfigRequestField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.service.PasswordPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The built-in rule set for {@link com.example.config_validator_service.model.ConfigRequest}.
+ */
+public final class DefaultRules {
+
+    public static final String VERSION = "builtin-1";
+
+    private DefaultRules() {
+    }
+
+    public static RuleSetDefinition create(PasswordPolicy passwordPolicy) {
+        RuleSetDefinition.Field environment = new RuleSetDefinition.Field(
+                "environment", "String", "Execution environment identifier");
+        environment.setAllowedValues(List.of("dev", "test", "prod"));
+
+        RuleSetDefinition.Field debug = new RuleSetDefinition.Field(
+                "debug", "Boolean", "Debug mode flag");
+        debug.setForbidden(List.of(new RuleSetDefinition.ForbiddenValue(
+                Boolean.TRUE, "environment", "prod", "Debug mode must not be enabled in production.")));
+
+        Map<String, RuleSetDefinition.Range> connectionLimits = new LinkedHashMap<>();
+        connectionLimits.put("dev", new RuleSetDefinition.Range(1, 100));
+        connectionLimits.put("test", new RuleSetDefinition.Range(1, 500));
+        connectionLimits.put("prod", new RuleSetDefinition.Range(1, 2000));
+        RuleSetDefinition.Field maxConnections = new RuleSetDefinition.Field(
+                "maxConnections", "Integer", "Allowed connection limit");
+        maxConnections.setRangeBy(new RuleSetDefinition.RangeByField(
+                "environment", connectionLimits, new RuleSetDefinition.Range(1, 1000)));
+
+        List<String> classes = new ArrayList<>();
+        for (PasswordPolicy.CharacterClass characterClass : passwordPolicy.getRequiredClasses()) {
+            classes.add(characterClass.name());
+        }
+        RuleSetDefinition.Field adminPassword = new RuleSetDefinition.Field(
+                "adminPassword", "String", "Sensitive credential field");
+        adminPassword.setPassword(new RuleSetDefinition.Password(passwordPolicy.getMinLength(),
+                Collections.unmodifiableList(classes)));
+
+        return new RuleSetDefinition(VERSION, List.of(environment, debug, maxConnections, adminPassword));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+/**
+ * Range check whose bounds depend on the value of another field. The keys and their
+ * messages are resolved at compile time, so evaluation is a short scan with no formatting.
+ */
+final class DependentRangeRule extends Rule {
+
+    private final int dependencySlot;
+    private final String[] keys;
+    private final long[] mins;
+    private final long[] maxs;
+    private final Violation[] outOfRange;
+    private final long fallbackMin;
+    private final long fallbackMax;
+    private final String fallbackPrefix;
+    private final String fallbackSuffix;
+    private final Violation missingDependency;
+
+    DependentRangeRule(int slot, String field, int dependencySlot, String dependencyField,
+                       String[] keys, long[] mins, long[] maxs, long fallbackMin, long fallbackMax) {
+        super(slot, field);
+        this.dependencySlot = dependencySlot;
+        this.keys = keys;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.outOfRange = new Violation[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            outOfRange[i] = Violation.of(ErrorCode.OUT_OF_RANGE, field,
+                    message(field, mins[i], maxs[i], dependencyField) + keys[i] + "'.");
+        }
+        this.fallbackMin = fallbackMin;
+        this.fallbackMax = fallbackMax;
+        this.fallbackPrefix = message(field, fallbackMin, fallbackMax, dependencyField);
+        this.fallbackSuffix = "'.";
+        this.missingDependency = Violation.of(ErrorCode.DEPENDENCY_MISSING, field,
+                "Field '" + dependencyField + "' must be set before validating " + field + ".");
+    }
+
+    private static String message(String field, long min, long max, String dependencyField) {
+        return "Field '" + field + "' must be between " + min + " and " + max
+                + " for " + dependencyField + " '";
+    }
+
+    @Override
+    String kind() {
+        return "rangeBy";
+    }
+
+    @Override
+    int cost() {
+        return 5;
+    }
+
+    @Override
+    int[] inputs() {
+        return new int[] {slot, dependencySlot};
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        Object value = values[slot];
+        if (!(value instanceof Number)) {
+            return;
+        }
+        Object dependency = values[dependencySlot];
+        if (dependency == null) {
+            violations.add(missingDependency);
+            return;
+        }
+        long number = ((Number) value).longValue();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(dependency)) {
+                if (number < mins[i] || number > maxs[i]) {
+                    violations.add(outOfRange[i]);
+                }
+                return;
+            }
+        }
+        if (number < fallbackMin || number > fallbackMax) {
+            violations.add(Violation.of(ErrorCode.OUT_OF_RANGE, field,
+                    fallbackPrefix, dependency, fallbackSuffix));
+        }
+    }
+}
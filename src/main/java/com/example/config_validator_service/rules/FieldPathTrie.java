@@ -0,0 +1,58 @@
+package com.example.config_validator_service.rules;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Field names split at their dots into a tree of object keys. Document binders follow a path
+ * one key at a time as they read, so no path strings are built per document.
+ */
+final class FieldPathTrie {
+
+    private final Node root = new Node();
+    private final int fieldCount;
+
+    FieldPathTrie(String[] fieldNames) {
+        this.fieldCount = fieldNames.length;
+        for (int slot = 0; slot < fieldNames.length; slot++) {
+            Node node = root;
+            for (String key : fieldNames[slot].split("\\.", -1)) {
+                node = node.children.computeIfAbsent(key, k -> new Node());
+            }
+            node.slot = slot;
+        }
+    }
+
+    Node root() {
+        return root;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        int slot = -1;
+
+        /**
+         * Returns the child for the key, or null if no field path continues with it.
+         */
+        Node child(String key) {
+            return children.get(key);
+        }
+
+        /**
+         * Passes the slot of this node and of every node below it that is a field.
+         */
+        void forEachSlot(IntConsumer action) {
+            if (slot >= 0) {
+                action.accept(slot);
+            }
+            for (Node child : children.values()) {
+                child.forEachSlot(action);
+            }
+        }
+    }
+}
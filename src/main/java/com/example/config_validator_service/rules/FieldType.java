@@ -0,0 +1,64 @@
+package com.example.config_validator_service.rules;
+
+enum FieldType {
+    STRING("String"),
+    BOOLEAN("Boolean"),
+    INTEGER("Integer");
+
+    private final String displayName;
+
+    FieldType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    String displayName() {
+        return displayName;
+    }
+
+    boolean accepts(Object value) {
+        switch (this) {
+            case STRING:
+                return value instanceof String;
+            case BOOLEAN:
+                return value instanceof Boolean;
+            case INTEGER:
+                return value instanceof Integer || value instanceof Long
+                        || value instanceof Short || value instanceof Byte;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Converts text from a format without typed scalars, e.g. {@code .properties}, to a value of
+     * this type, or returns the text unchanged if it does not parse as one. Integers become
+     * Integer or Long like JSON numbers do.
+     */
+    Object fromText(String text) {
+        switch (this) {
+            case BOOLEAN:
+                if ("true".equalsIgnoreCase(text)) {
+                    return Boolean.TRUE;
+                }
+                return "false".equalsIgnoreCase(text) ? Boolean.FALSE : text;
+            case INTEGER:
+                try {
+                    long value = Long.parseLong(text);
+                    return value == (int) value ? (Object) (int) value : (Object) value;
+                } catch (NumberFormatException ex) {
+                    return text;
+                }
+            default:
+                return text;
+        }
+    }
+
+    static FieldType of(String name) {
+        for (FieldType type : values()) {
+            if (type.displayName.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported field type: " + name);
+    }
+}
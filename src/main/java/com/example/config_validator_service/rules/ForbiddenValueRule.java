@@ -0,0 +1,45 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+final class ForbiddenValueRule extends Rule {
+
+    private final Object forbidden;
+    private final int conditionSlot;
+    private final String conditionValue;
+    private final Violation violation;
+
+    ForbiddenValueRule(int slot, String field, Object forbidden, int conditionSlot,
+                       String conditionValue, String message) {
+        super(slot, field);
+        this.forbidden = forbidden;
+        this.conditionSlot = conditionSlot;
+        this.conditionValue = conditionValue;
+        this.violation = Violation.of(ErrorCode.FORBIDDEN_VALUE, field, message);
+    }
+
+    @Override
+    String kind() {
+        return "forbidden";
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
+
+    @Override
+    int[] inputs() {
+        return new int[] {slot, conditionSlot};
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        if (forbidden.equals(values[slot]) && conditionValue.equals(values[conditionSlot])) {
+            violations.add(violation);
+        }
+    }
+}
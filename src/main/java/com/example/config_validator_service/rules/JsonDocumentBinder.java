@@ -0,0 +1,106 @@
+package com.example.config_validator_service.rules;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+/**
+ * Fills field slots from a JSON document in one streaming pass. Field names are paths with
+ * dot-separated object keys, e.g. {@code db.pool.maxConnections}; subtrees no field addresses
+ * are skipped without being materialized, so memory stays proportional to the rule set rather
+ * than the document.
+ *
+ * <p>Objects and arrays found where a field is declared bind as {@link Structure} markers, which
+ * no type accepts. Arrays are never descended into.
+ */
+final class JsonDocumentBinder {
+
+    /**
+     * Stands in for a non-scalar value at a field's path.
+     */
+    enum Structure {
+        OBJECT("{...}"),
+        ARRAY("[...]");
+
+        private final String display;
+
+        Structure(String display) {
+            this.display = display;
+        }
+
+        @Override
+        public String toString() {
+            return display;
+        }
+    }
+
+    private final FieldPathTrie fields;
+
+    JsonDocumentBinder(FieldPathTrie fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Binds the document the parser is positioned before, or returns null if it is not a single
+     * JSON object.
+     */
+    Object[] bind(JsonParser parser) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        Object[] values = new Object[fields.fieldCount()];
+        bindObject(parser, fields.root(), values);
+        return parser.nextToken() == null ? values : null;
+    }
+
+    private static void bindObject(JsonParser parser, FieldPathTrie.Node node, Object[] values) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            FieldPathTrie.Node child = node.child(parser.currentName());
+            JsonToken token = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+            } else {
+                bindValue(parser, token, child, values);
+            }
+        }
+    }
+
+    /**
+     * Binds the value starting at {@code token} to the fields at and below {@code node}.
+     */
+    static void bindValue(JsonParser parser, JsonToken token, FieldPathTrie.Node node, Object[] values) {
+        if (token == JsonToken.START_OBJECT) {
+            if (node.slot >= 0) {
+                values[node.slot] = Structure.OBJECT;
+            }
+            if (node.children.isEmpty()) {
+                parser.skipChildren();
+            } else {
+                bindObject(parser, node, values);
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            if (node.slot >= 0) {
+                values[node.slot] = Structure.ARRAY;
+            }
+            parser.skipChildren();
+        } else if (node.slot >= 0) {
+            values[node.slot] = scalar(parser, token);
+        }
+    }
+
+    private static Object scalar(JsonParser parser, JsonToken token) {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getString();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                // Integer or Long where they fit, like databinding into Object would.
+                return parser.getNumberValue();
+            default:
+                return null;
+        }
+    }
+}
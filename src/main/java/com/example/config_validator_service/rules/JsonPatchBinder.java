@@ -0,0 +1,115 @@
+package com.example.config_validator_service.rules;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.databind.JsonNode;
+
+import java.util.Objects;
+
+/**
+ * Applies a JSON Patch (RFC 6902) to bound field values rather than to a document, so a
+ * baseline can be re-validated without keeping the document itself. Supports {@code add},
+ * {@code replace} and {@code remove}: the operation's path is followed through the field paths,
+ * the fields at and below it are cleared and, for add and replace, bound from the operation's
+ * value exactly as {@link JsonDocumentBinder} would bind it inside a document. Paths that leave
+ * the field paths, e.g. into an array or an undeclared key, change no field and are skipped.
+ *
+ * <p>Without the document a patch cannot be checked against it, so e.g. adding below a missing
+ * parent is not rejected as it would be on the real document; patches are assumed to apply.
+ */
+final class JsonPatchBinder {
+
+    private final FieldPathTrie fields;
+
+    JsonPatchBinder(FieldPathTrie fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Applies the operations to {@code values} in place and returns which slots now differ.
+     *
+     * @throws IllegalArgumentException if the patch is malformed or uses another operation
+     */
+    boolean[] apply(JsonNode operations, Object[] values) {
+        if (operations == null || !operations.isArray()) {
+            throw new IllegalArgumentException("A JSON patch must be an array of operations.");
+        }
+        Object[] original = values.clone();
+        for (JsonNode operation : operations) {
+            String op = member(operation, "op");
+            String path = member(operation, "path");
+            JsonNode value = null;
+            switch (op) {
+                case "add":
+                case "replace":
+                    value = operation.get("value");
+                    if (value == null) {
+                        throw new IllegalArgumentException("Patch operation '" + op + "' on '" + path
+                                + "' needs a value.");
+                    }
+                    break;
+                case "remove":
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported patch operation '" + op
+                            + "'; only add, replace and remove are supported.");
+            }
+            FieldPathTrie.Node node = find(path);
+            if (node == null) {
+                continue;
+            }
+            if (node == fields.root() && (value == null || !value.isObject())) {
+                throw new IllegalArgumentException("The document root must stay a JSON object.");
+            }
+            node.forEachSlot(slot -> values[slot] = null);
+            if (value != null) {
+                try (JsonParser parser = value.traverse(ObjectReadContext.empty())) {
+                    JsonDocumentBinder.bindValue(parser, parser.nextToken(), node, values);
+                }
+            }
+        }
+        boolean[] changed = new boolean[values.length];
+        for (int slot = 0; slot < values.length; slot++) {
+            changed[slot] = !Objects.equals(original[slot], values[slot]);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the node the JSON pointer leads to, or null if it leaves the field paths.
+     */
+    private FieldPathTrie.Node find(String pointer) {
+        FieldPathTrie.Node node = fields.root();
+        if (pointer.isEmpty()) {
+            return node;
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("Patch path '" + pointer + "' is not a JSON pointer.");
+        }
+        int start = 1;
+        while (node != null) {
+            int end = pointer.indexOf('/', start);
+            if (end < 0) {
+                end = pointer.length();
+            }
+            node = node.child(unescape(pointer.substring(start, end)));
+            if (end == pointer.length()) {
+                return node;
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static String unescape(String key) {
+        return key.indexOf('~') < 0 ? key : key.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static String member(JsonNode operation, String name) {
+        JsonNode member = operation.get(name);
+        if (member == null || !member.isString()) {
+            throw new IllegalArgumentException("Each patch operation needs a string '" + name + "'.");
+        }
+        return member.stringValue();
+    }
+}
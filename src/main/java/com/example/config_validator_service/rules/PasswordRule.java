@@ -0,0 +1,39 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.service.PasswordPolicy;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+final class PasswordRule extends Rule {
+
+    private final PasswordPolicy policy;
+    private final Violation violation;
+
+    PasswordRule(int slot, String field, PasswordPolicy policy) {
+        super(slot, field);
+        this.policy = policy;
+        this.violation = Violation.of(ErrorCode.WEAK_PASSWORD, field,
+                "Field '" + field + "' must be " + policy.getRequirementDescription() + ".");
+    }
+
+    @Override
+    String kind() {
+        return "password";
+    }
+
+    @Override
+    int cost() {
+        return 10;
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        Object value = values[slot];
+        if (value instanceof String && !policy.isValid((String) value)) {
+            violations.add(violation);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.config_validator_service.rules;
+
+import tools.jackson.core.exc.StreamReadException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.stream.IntStream;
+
+/**
+ * Fills field slots from a {@code .properties} document in one streaming pass, using the syntax
+ * of {@link java.util.Properties#load(Reader)}. Keys are full field names, e.g.
+ * {@code db.pool.maxConnections}. Each key is compared in place against the field names of the
+ * same length, so keys no field declares are neither copied nor hashed, and their values are
+ * skipped.
+ *
+ * <p>Properties values are always text. They are converted to the field's declared type where
+ * they parse, see {@link FieldType#fromText(String)}, and otherwise stay text, so e.g.
+ * {@code maxConnections=many} still fails the type rule. Duplicate keys keep the last value.
+ */
+final class PropertiesDocumentBinder {
+
+    private final String[] fieldNames;
+    private final FieldType[] types;
+    // Slots of the field names of each length.
+    private final int[][] slotsByLength;
+
+    PropertiesDocumentBinder(String[] fieldNames, FieldType[] types) {
+        this.fieldNames = fieldNames;
+        this.types = types;
+        int maxLength = 0;
+        for (String name : fieldNames) {
+            maxLength = Math.max(maxLength, name.length());
+        }
+        this.slotsByLength = new int[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            int size = length;
+            slotsByLength[length] = IntStream.range(0, fieldNames.length)
+                    .filter(slot -> fieldNames[slot].length() == size)
+                    .toArray();
+        }
+    }
+
+    /**
+     * Binds the whole document.
+     *
+     * @throws StreamReadException if the document has a malformed Unicode escape
+     */
+    Object[] bind(Reader document) throws IOException {
+        TextCursor in = new TextCursor(document, "properties");
+        Object[] values = new Object[types.length];
+        StringBuilder text = new StringBuilder();
+        in.skip('\uFEFF');
+        while (true) {
+            skipWhitespace(in, true);
+            int c = in.peek();
+            if (c == TextCursor.EOF) {
+                return values;
+            }
+            if (c == '#' || c == '!') {
+                skipLine(in);
+                continue;
+            }
+            text.setLength(0);
+            while (!isLineEnd(in.peek()) && !isKeyEnd(in.peek())) {
+                append(in, text);
+            }
+            skipWhitespace(in, false);
+            if (in.peek() == '=' || in.peek() == ':') {
+                in.read();
+                skipWhitespace(in, false);
+            }
+            int slot = slotOf(text);
+            if (slot < 0) {
+                while (!isLineEnd(in.peek())) {
+                    append(in, null);
+                }
+                continue;
+            }
+            text.setLength(0);
+            while (!isLineEnd(in.peek())) {
+                append(in, text);
+            }
+            values[slot] = types[slot].fromText(text.toString());
+        }
+    }
+
+    private int slotOf(CharSequence key) {
+        if (key.length() < slotsByLength.length) {
+            for (int slot : slotsByLength[key.length()]) {
+                if (fieldNames[slot].contentEquals(key)) {
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads one character of a key or value into {@code out}, resolving escapes and joining
+     * continuation lines; {@code out} may be null to skip.
+     */
+    private static void append(TextCursor in, StringBuilder out) throws IOException {
+        int c = in.read();
+        if (c != '\\') {
+            if (out != null) {
+                out.append((char) c);
+            }
+            return;
+        }
+        c = in.read();
+        switch (c) {
+            case TextCursor.EOF:
+                return;
+            case '\r':
+                in.skip('\n');
+                skipWhitespace(in, false);
+                return;
+            case '\n':
+                skipWhitespace(in, false);
+                return;
+            case 't':
+                c = '\t';
+                break;
+            case 'n':
+                c = '\n';
+                break;
+            case 'r':
+                c = '\r';
+                break;
+            case 'f':
+                c = '\f';
+                break;
+            case 'u':
+                c = unicode(in);
+                break;
+            default:
+                break;
+        }
+        if (out != null) {
+            out.append((char) c);
+        }
+    }
+
+    private static int unicode(TextCursor in) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(in.read(), 16);
+            if (digit < 0) {
+                throw in.error("malformed \\uXXXX escape");
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private static void skipWhitespace(TextCursor in, boolean newlines) throws IOException {
+        while (true) {
+            int c = in.peek();
+            if (c == ' ' || c == '\t' || c == '\f' || (newlines && (c == '\n' || c == '\r'))) {
+                in.read();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void skipLine(TextCursor in) throws IOException {
+        while (!isLineEnd(in.peek())) {
+            in.read();
+        }
+    }
+
+    private static boolean isLineEnd(int c) {
+        return c == '\n' || c == '\r' || c == TextCursor.EOF;
+    }
+
+    private static boolean isKeyEnd(int c) {
+        return c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f';
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+final class RangeRule extends Rule {
+
+    private final long min;
+    private final long max;
+    private final Violation violation;
+
+    RangeRule(int slot, String field, long min, long max) {
+        super(slot, field);
+        this.min = min;
+        this.max = max;
+        this.violation = Violation.of(ErrorCode.OUT_OF_RANGE, field,
+                "Field '" + field + "' must be between " + min + " and " + max + ".");
+    }
+
+    @Override
+    String kind() {
+        return "range";
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        Object value = values[slot];
+        if (value instanceof Number) {
+            long number = ((Number) value).longValue();
+            if (number < min || number > max) {
+                violations.add(violation);
+            }
+        }
+    }
+}
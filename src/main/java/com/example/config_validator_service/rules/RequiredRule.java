@@ -0,0 +1,33 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+final class RequiredRule extends Rule {
+
+    private final Violation violation;
+
+    RequiredRule(int slot, String field) {
+        super(slot, field);
+        this.violation = Violation.of(ErrorCode.REQUIRED, field, "Field '" + field + "' is required.");
+    }
+
+    @Override
+    String kind() {
+        return "required";
+    }
+
+    @Override
+    int cost() {
+        return 1;
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        if (values[slot] == null) {
+            violations.add(violation);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+/**
+ * A single compiled check bound to a field slot. Rules read field values from the slot
+ * array produced for each request and append error messages for any violation.
+ */
+abstract class Rule {
+
+    final int slot;
+    final String field;
+
+    Rule(int slot, String field) {
+        this.slot = slot;
+        this.field = field;
+    }
+
+    /**
+     * Short rule-type name used as a metric tag, e.g. "required" or "rangeBy".
+     */
+    abstract String kind();
+
+    /**
+     * Rough relative cost of one evaluation. When only some errors are wanted, cheaper rules
+     * run first so a failing config is rejected with as little work as possible.
+     */
+    abstract int cost();
+
+    /**
+     * Slots this rule reads. Its outcome can only change when one of them does, which lets
+     * incremental re-validation skip it otherwise.
+     */
+    int[] inputs() {
+        return new int[] {slot};
+    }
+
+    abstract void apply(Object[] values, List<Violation> violations);
+}
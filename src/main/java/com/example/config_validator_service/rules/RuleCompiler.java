@@ -0,0 +1,197 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.service.PasswordPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns a {@link RuleSetDefinition} into a {@link CompiledRuleSet} and the matching
+ * {@link SchemaDefinition}. All name resolution, message building and consistency checks
+ * happen here so that request-time evaluation never does them.
+ */
+public final class RuleCompiler {
+
+    /**
+     * How a compiled rule set runs its rules.
+     */
+    public enum Backend {
+        /** A generated class with a direct call per rule, see {@link RuleProgramGenerator}. */
+        GENERATED,
+        /** A loop over the rule objects. */
+        INTERPRETED
+    }
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * Compiles the definition into generated code, or interpreted rules where classes cannot be
+     * generated at run time.
+     *
+     * @throws IllegalArgumentException if the definition is inconsistent, e.g. a rule refers
+     *     to an undeclared field or a field has an unsupported type
+     */
+    public static CompiledRuleSet compile(RuleSetDefinition definition) {
+        return compile(definition, Backend.GENERATED);
+    }
+
+    /**
+     * Compiles the definition for the given backend.
+     *
+     * @throws IllegalArgumentException if the definition is inconsistent
+     */
+    public static CompiledRuleSet compile(RuleSetDefinition definition, Backend backend) {
+        List<RuleSetDefinition.Field> fields = definition.getFields();
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("Rule set must declare at least one field");
+        }
+
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        for (RuleSetDefinition.Field field : fields) {
+            if (field.getName() == null || slots.putIfAbsent(field.getName(), slots.size()) != null) {
+                throw new IllegalArgumentException("Duplicate or missing field name: " + field.getName());
+            }
+            // Dots separate the keys of a path into nested documents, e.g. db.pool.maxConnections.
+            if (Arrays.asList(field.getName().split("\\.", -1)).contains("")) {
+                throw new IllegalArgumentException("Field name has an empty path segment: '" + field.getName() + "'");
+            }
+        }
+
+        List<Rule> rules = new ArrayList<>();
+        FieldType[] types = new FieldType[slots.size()];
+        boolean[] sensitive = new boolean[slots.size()];
+        Map<String, SchemaDefinition.FieldDefinition> schemaFields = new LinkedHashMap<>();
+        for (RuleSetDefinition.Field field : fields) {
+            int slot = slots.get(field.getName());
+            FieldType type = FieldType.of(field.getType());
+            types[slot] = type;
+            List<String> constraints = new ArrayList<>();
+
+            if (field.isRequired()) {
+                rules.add(new RequiredRule(slot, field.getName()));
+            }
+            rules.add(new TypeRule(slot, field.getName(), type));
+            if (field.getAllowedValues() != null && !field.getAllowedValues().isEmpty()) {
+                rules.add(new AllowedValuesRule(slot, field.getName(), field.getAllowedValues()));
+                constraints.add("One of: " + String.join(", ", field.getAllowedValues()));
+            }
+            if (field.getRange() != null) {
+                RuleSetDefinition.Range range = checkRange(field.getName(), field.getRange());
+                rules.add(new RangeRule(slot, field.getName(), range.getMin(), range.getMax()));
+                constraints.add(range.getMin() + "-" + range.getMax());
+            }
+            if (field.getRangeBy() != null) {
+                rules.add(compileRangeBy(field, slot, slots));
+                constraints.add(describeRangeBy(field.getRangeBy()));
+            }
+            if (field.getForbidden() != null) {
+                for (RuleSetDefinition.ForbiddenValue forbidden : field.getForbidden()) {
+                    rules.add(compileForbidden(field, slot, forbidden, slots));
+                    constraints.add(describeForbidden(type, forbidden));
+                }
+            }
+            if (field.getPassword() != null) {
+                PasswordPolicy policy = toPolicy(field.getPassword());
+                rules.add(new PasswordRule(slot, field.getName(), policy));
+                constraints.add("Must be " + policy.getRequirementDescription());
+            }
+            sensitive[slot] = field.isSensitive() || field.getPassword() != null;
+
+            schemaFields.put(field.getName(), new SchemaDefinition.FieldDefinition(
+                    type.displayName(), field.getDescription(), String.join("; ", constraints)));
+        }
+
+        SchemaDefinition schema = new SchemaDefinition(Collections.unmodifiableMap(schemaFields));
+        return new CompiledRuleSet(definition.getVersion(), slots.keySet().toArray(new String[0]), types,
+                rules.toArray(new Rule[0]), sensitive, schema, backend);
+    }
+
+    private static Rule compileRangeBy(RuleSetDefinition.Field field, int slot, Map<String, Integer> slots) {
+        RuleSetDefinition.RangeByField rangeBy = field.getRangeBy();
+        int dependencySlot = resolve(field.getName(), rangeBy.getField(), slots);
+        Map<String, RuleSetDefinition.Range> ranges =
+                rangeBy.getRanges() != null ? rangeBy.getRanges() : Collections.emptyMap();
+        String[] keys = new String[ranges.size()];
+        long[] mins = new long[keys.length];
+        long[] maxs = new long[keys.length];
+        int i = 0;
+        for (Map.Entry<String, RuleSetDefinition.Range> entry : ranges.entrySet()) {
+            RuleSetDefinition.Range range = checkRange(field.getName(), entry.getValue());
+            keys[i] = entry.getKey();
+            mins[i] = range.getMin();
+            maxs[i] = range.getMax();
+            i++;
+        }
+        RuleSetDefinition.Range fallback = rangeBy.getFallback() != null
+                ? checkRange(field.getName(), rangeBy.getFallback())
+                : new RuleSetDefinition.Range(Long.MIN_VALUE, Long.MAX_VALUE);
+        return new DependentRangeRule(slot, field.getName(), dependencySlot, rangeBy.getField(),
+                keys, mins, maxs, fallback.getMin(), fallback.getMax());
+    }
+
+    private static Rule compileForbidden(RuleSetDefinition.Field field, int slot,
+                                         RuleSetDefinition.ForbiddenValue forbidden,
+                                         Map<String, Integer> slots) {
+        if (forbidden.getValue() == null || forbidden.getWhenEquals() == null) {
+            throw new IllegalArgumentException("Forbidden value on '" + field.getName()
+                    + "' needs both value and whenEquals");
+        }
+        int conditionSlot = resolve(field.getName(), forbidden.getWhenField(), slots);
+        String message = forbidden.getMessage() != null
+                ? forbidden.getMessage()
+                : "Field '" + field.getName() + "' must not be " + forbidden.getValue()
+                        + " when " + forbidden.getWhenField() + " is " + forbidden.getWhenEquals() + ".";
+        return new ForbiddenValueRule(slot, field.getName(), forbidden.getValue(), conditionSlot,
+                forbidden.getWhenEquals(), message);
+    }
+
+    private static int resolve(String owner, String referenced, Map<String, Integer> slots) {
+        Integer slot = referenced != null ? slots.get(referenced) : null;
+        if (slot == null) {
+            throw new IllegalArgumentException("Rule on '" + owner + "' refers to undeclared field '"
+                    + referenced + "'");
+        }
+        return slot;
+    }
+
+    private static RuleSetDefinition.Range checkRange(String field, RuleSetDefinition.Range range) {
+        if (range.getMin() > range.getMax()) {
+            throw new IllegalArgumentException("Range for '" + field + "' has min greater than max");
+        }
+        return range;
+    }
+
+    private static PasswordPolicy toPolicy(RuleSetDefinition.Password password) {
+        List<PasswordPolicy.CharacterClass> classes = new ArrayList<>();
+        if (password.getRequiredClasses() != null) {
+            for (String name : password.getRequiredClasses()) {
+                classes.add(PasswordPolicy.CharacterClass.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return new PasswordPolicy(password.getMinLength(), classes);
+    }
+
+    private static String describeRangeBy(RuleSetDefinition.RangeByField rangeBy) {
+        List<String> parts = new ArrayList<>();
+        if (rangeBy.getRanges() != null) {
+            rangeBy.getRanges().forEach((key, range) ->
+                    parts.add(range.getMin() + "-" + range.getMax() + " in " + key));
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String describeForbidden(FieldType type, RuleSetDefinition.ForbiddenValue forbidden) {
+        String condition = " if " + forbidden.getWhenField() + " is " + forbidden.getWhenEquals();
+        if (type == FieldType.BOOLEAN && forbidden.getValue() instanceof Boolean) {
+            return "Must be " + !((Boolean) forbidden.getValue()) + condition;
+        }
+        return "Must not be " + forbidden.getValue() + condition;
+    }
+}
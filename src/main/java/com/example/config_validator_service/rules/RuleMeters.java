@@ -0,0 +1,21 @@
+package com.example.config_validator_service.rules;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of one compiled rule, resolved when a rule set is activated so evaluation only
+ * touches pre-registered instances.
+ */
+final class RuleMeters {
+
+    final Timer duration;
+    final Counter passed;
+    final Counter failed;
+
+    RuleMeters(Timer duration, Counter passed, Counter failed) {
+        this.duration = duration;
+        this.passed = passed;
+        this.failed = failed;
+    }
+}
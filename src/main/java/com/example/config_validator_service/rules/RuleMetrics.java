@@ -0,0 +1,152 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instruments rule evaluation. Every validation records its overall latency in a percentile
+ * histogram and bumps a pass or fail counter per rule. Per-rule timers are only fed for one in
+ * {@code validation.metrics.rule-timing-sample-interval} validations, since clock reads around
+ * every rule would cost more than most rules do.
+ *
+ * <p>All meters are registered when a rule set is activated, so the hot path does no tag
+ * construction or registry lookups. Meters are tagged with the field, the rule kind and an
+ * {@code index} counting the rules of that kind on the field, so that e.g. two {@code forbidden}
+ * conditions on one field are metered apart.
+ *
+ * <p>After a reload the previous rule set's meters stay bound, so validations that took that set
+ * just before the reload are still counted; any older set runs unmetered rather than having its
+ * meters looked up again per call. Meters of rules the reload dropped are removed from the
+ * registry at once, so they do not linger with frozen values.
+ */
+@Component
+public class RuleMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer validationTimer;
+    private final int sampleInterval;
+    private volatile Binding binding;
+    // The binding replaced by the last reload, for callers still holding its rule set.
+    private volatile Binding previous;
+
+    @Autowired
+    public RuleMetrics(MeterRegistry meterRegistry, RuleSetRegistry ruleSets,
+                       @Value("${validation.metrics.rule-timing-sample-interval:8}") int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("rule-timing-sample-interval must be at least 1");
+        }
+        this.meterRegistry = meterRegistry;
+        this.sampleInterval = sampleInterval;
+        this.validationTimer = Timer.builder("validation.duration")
+                .description("Time to evaluate all rules for one config")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.binding = bind(ruleSets.current());
+        ruleSets.addListener(this::rebind);
+    }
+
+    private synchronized void rebind(CompiledRuleSet ruleSet) {
+        Binding next = bind(ruleSet);
+        Binding replaced = binding;
+        // Published before the new binding, so a caller holding the replaced set always finds it.
+        previous = replaced;
+        binding = next;
+
+        Set<Meter.Id> kept = new HashSet<>();
+        for (RuleMeters meters : next.meters) {
+            kept.add(meters.duration.getId());
+        }
+        for (RuleMeters meters : replaced.meters) {
+            if (!kept.contains(meters.duration.getId())) {
+                meterRegistry.remove(meters.duration);
+                meterRegistry.remove(meters.passed);
+                meterRegistry.remove(meters.failed);
+            }
+        }
+    }
+
+    public ValidationResult validate(CompiledRuleSet ruleSet, Object[] values) {
+        return validate(ruleSet, values, CompiledRuleSet.ALL_ERRORS);
+    }
+
+    /**
+     * Validates like {@link CompiledRuleSet#validate(Object[], int)}; rules skipped because the
+     * error limit was reached are not counted.
+     */
+    public ValidationResult validate(CompiledRuleSet ruleSet, Object[] values, int maxErrors) {
+        long start = System.nanoTime();
+        RuleMeters[] meters = metersFor(ruleSet);
+        ValidationResult result;
+        if (meters != null) {
+            boolean timed = sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+            result = ruleSet.validate(values, meters, timed, maxErrors);
+        } else {
+            result = ruleSet.validate(values, maxErrors);
+        }
+        validationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    /**
+     * Returns the meters of the active or the previously active rule set, or null for any other.
+     */
+    RuleMeters[] metersFor(CompiledRuleSet ruleSet) {
+        Binding current = binding;
+        if (current.ruleSet == ruleSet) {
+            return current.meters;
+        }
+        // A caller may still hold the previous rule set right after a reload.
+        Binding replaced = previous;
+        return replaced != null && replaced.ruleSet == ruleSet ? replaced.meters : null;
+    }
+
+    private Binding bind(CompiledRuleSet ruleSet) {
+        Rule[] rules = ruleSet.rules();
+        RuleMeters[] meters = new RuleMeters[rules.length];
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (int i = 0; i < rules.length; i++) {
+            String field = rules[i].field;
+            String kind = rules[i].kind();
+            String index = String.valueOf(occurrences.merge(field + '/' + kind, 1, Integer::sum) - 1);
+            meters[i] = new RuleMeters(
+                    Timer.builder("validation.rule.duration")
+                            .description("Sampled evaluation time of a single rule")
+                            .tags("field", field, "rule", kind, "index", index)
+                            .register(meterRegistry),
+                    outcomeCounter(field, kind, index, "pass"),
+                    outcomeCounter(field, kind, index, "fail"));
+        }
+        return new Binding(ruleSet, meters);
+    }
+
+    private Counter outcomeCounter(String field, String kind, String index, String outcome) {
+        return Counter.builder("validation.rule.evaluations")
+                .description("Rule evaluations by outcome")
+                .tags("field", field, "rule", kind, "index", index, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Binding {
+        final CompiledRuleSet ruleSet;
+        final RuleMeters[] meters;
+
+        Binding(CompiledRuleSet ruleSet, RuleMeters[] meters) {
+            this.ruleSet = ruleSet;
+            this.meters = meters;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.RuleOrderReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Orders the rules of fail-fast and {@code maxErrors} validations by what they cost and how often
+ * they reject. Such a run stops at the first violations, so on average it does the least work
+ * when rules run by ascending cost per rejection: cheap rules that often fail first, expensive
+ * ones that rarely fail last. That order is optimal for independent rules; a rule that reads
+ * another field still follows the rules checking that field, see
+ * {@link CompiledRuleSet#reorder(double[], double[])}.
+ *
+ * <p>Costs come from the sampled {@code validation.rule.duration} timers and rejection rates
+ * from the {@code validation.rule.evaluations} counters that {@link RuleMetrics} keeps anyway, so
+ * tuning adds nothing to the request path. Every {@code validation.rule-order.interval}, each rule
+ * with at least {@code validation.rule-order.min-samples} new timed evaluations has them blended
+ * into its estimates; once every rule has estimates the order is recomputed. A reloaded rule set
+ * starts over from its static costs.
+ */
+@Component
+public class RuleOrderTuner implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleOrderTuner.class);
+
+    // Weight of the latest interval in each estimate, so the order follows shifts in traffic.
+    private static final double SMOOTHING = 0.5;
+
+    private final RuleMetrics metrics;
+    private final boolean enabled;
+    private final Duration interval;
+    private final long minSamples;
+
+    private Tuning tuning;
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public RuleOrderTuner(RuleSetRegistry ruleSets, RuleMetrics metrics,
+                          @Value("${validation.rule-order.enabled:true}") boolean enabled,
+                          @Value("${validation.rule-order.interval:30s}") Duration interval,
+                          @Value("${validation.rule-order.min-samples:100}") long minSamples) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("validation.rule-order.min-samples must be at least 1");
+        }
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.minSamples = minSamples;
+        this.tuning = new Tuning(ruleSets.current());
+        ruleSets.addListener(this::reset);
+    }
+
+    private synchronized void reset(CompiledRuleSet ruleSet) {
+        tuning = new Tuning(ruleSet);
+    }
+
+    /**
+     * Folds the measurements since the last call into the estimates and reorders the rules if
+     * they call for it.
+     *
+     * @return whether the order changed
+     */
+    public synchronized boolean tune() {
+        Tuning current = tuning;
+        boolean measured = true;
+        for (int i = 0; i < current.meters.length; i++) {
+            current.update(i);
+            measured &= current.isMeasured(i);
+        }
+        if (!measured || !current.ruleSet.reorder(current.nanos, current.rates)) {
+            return false;
+        }
+        current.reorders++;
+        log.info("Reordered limited runs of rule set {}: {}", current.ruleSet.getVersion(),
+                IntStream.of(current.ruleSet.getLimitedOrder())
+                        .mapToObj(i -> current.rules[i].field + "/" + current.rules[i].kind())
+                        .collect(Collectors.joining(", ")));
+        return true;
+    }
+
+    /**
+     * Returns the current order of the active rule set with the statistics behind it. Counts
+     * start when the rule set was activated.
+     */
+    public synchronized RuleOrderReport report() {
+        Tuning current = tuning;
+        List<RuleOrderReport.RuleStats> stats = new ArrayList<>();
+        boolean measured = true;
+        double expectedNanos = 0;
+        double reached = 1;
+        for (int i : current.ruleSet.getLimitedOrder()) {
+            Rule rule = current.rules[i];
+            RuleMeters meters = current.meters[i];
+            List<String> dependsOn = Arrays.stream(rule.inputs())
+                    .filter(slot -> slot != rule.slot)
+                    .mapToObj(current.ruleSet::getFieldName)
+                    .collect(Collectors.toList());
+            boolean ruleMeasured = current.isMeasured(i);
+            stats.add(new RuleOrderReport.RuleStats(rule.field, rule.kind(), dependsOn.isEmpty() ? null : dependsOn,
+                    evaluations(meters) - current.activation[i].evaluations,
+                    rejections(meters) - current.activation[i].rejections,
+                    meters.duration.count() - current.activation[i].timed,
+                    ruleMeasured ? current.nanos[i] : null,
+                    ruleMeasured ? current.rates[i] : null,
+                    ruleMeasured ? current.rank(i) : null));
+            measured &= ruleMeasured;
+            if (ruleMeasured) {
+                // Each rule only runs if none before it rejected.
+                expectedNanos += reached * current.nanos[i];
+                reached *= 1 - current.rates[i];
+            }
+        }
+        return new RuleOrderReport(current.ruleSet.getVersion(), executor != null, measured, current.reorders,
+                measured ? expectedNanos : null, stats);
+    }
+
+    private static long evaluations(RuleMeters meters) {
+        return (long) (meters.passed.count() + meters.failed.count());
+    }
+
+    private static long rejections(RuleMeters meters) {
+        return (long) meters.failed.count();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "rule-order-tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::tuneSafely, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void tuneSafely() {
+        try {
+            tune();
+        } catch (RuntimeException ex) {
+            // A failed run must not cancel the schedule; the current order stays in place.
+            log.warn("Failed to tune the rule order", ex);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Meter readings of one rule at some point in time.
+     */
+    private static final class Snapshot {
+        final long evaluations;
+        final long rejections;
+        final long timed;
+        final double timedNanos;
+
+        Snapshot(RuleMeters meters) {
+            this.evaluations = evaluations(meters);
+            this.rejections = rejections(meters);
+            this.timed = meters.duration.count();
+            this.timedNanos = meters.duration.totalTime(TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Estimates for one rule set. Guarded by the tuner's lock.
+     */
+    private final class Tuning {
+        final CompiledRuleSet ruleSet;
+        final Rule[] rules;
+        final RuleMeters[] meters;
+        final Snapshot[] activation;
+        final Snapshot[] lastUpdate;
+        final double[] nanos;
+        final double[] rates;
+        long reorders;
+
+        Tuning(CompiledRuleSet ruleSet) {
+            this.ruleSet = ruleSet;
+            this.rules = ruleSet.rules();
+            this.meters = metrics.metersFor(ruleSet);
+            this.activation = new Snapshot[rules.length];
+            for (int i = 0; i < rules.length; i++) {
+                activation[i] = new Snapshot(meters[i]);
+            }
+            this.lastUpdate = activation.clone();
+            this.nanos = new double[rules.length];
+            this.rates = new double[rules.length];
+            Arrays.fill(nanos, Double.NaN);
+            Arrays.fill(rates, Double.NaN);
+        }
+
+        void update(int rule) {
+            Snapshot now = new Snapshot(meters[rule]);
+            Snapshot last = lastUpdate[rule];
+            long samples = now.timed - last.timed;
+            if (samples < minSamples) {
+                return;
+            }
+            double cost = (now.timedNanos - last.timedNanos) / samples;
+            // Add-one smoothing, so a rule that has not failed yet is not taken to never fail.
+            double rate = (now.rejections - last.rejections + 1.0) / (now.evaluations - last.evaluations + 2.0);
+            if (isMeasured(rule)) {
+                nanos[rule] += (cost - nanos[rule]) * SMOOTHING;
+                rates[rule] += (rate - rates[rule]) * SMOOTHING;
+            } else {
+                nanos[rule] = cost;
+                rates[rule] = rate;
+            }
+            lastUpdate[rule] = now;
+        }
+
+        boolean isMeasured(int rule) {
+            return !Double.isNaN(nanos[rule]);
+        }
+
+        double rank(int rule) {
+            return nanos[rule] / rates[rule];
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+
+/**
+ * The violations each rule of a {@link CompiledRuleSet} found for one set of values. Built by
+ * {@link CompiledRuleSet#evaluate(Object[])}, which runs every rule, and updated for changed
+ * values by {@link CompiledRuleSet#reevaluate(RuleOutcomes, Object[], boolean[])}, which only
+ * runs the rules that read a changed slot. Immutable.
+ */
+public final class RuleOutcomes {
+
+    static final Violation[] NONE = new Violation[0];
+
+    final CompiledRuleSet ruleSet;
+    final Violation[][] byRule;
+    private final int evaluatedRules;
+
+    RuleOutcomes(CompiledRuleSet ruleSet, Violation[][] byRule, int evaluatedRules) {
+        this.ruleSet = ruleSet;
+        this.byRule = byRule;
+        this.evaluatedRules = evaluatedRules;
+    }
+
+    /**
+     * Returns the result {@link CompiledRuleSet#validate(Object[], int)} gives for the same
+     * values and error limit.
+     */
+    public ValidationResult result(int maxErrors) {
+        return ruleSet.result(this, maxErrors);
+    }
+
+    public CompiledRuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * Returns how many rules were run to produce these outcomes; the rest were carried over.
+     */
+    public int getEvaluatedRules() {
+        return evaluatedRules;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+/**
+ * Runs the rules of a {@link CompiledRuleSet}. The interpreted form loops over the rule array,
+ * so its one {@code apply} call site sees every rule class and the JIT can only dispatch it
+ * through the vtable. {@link RuleProgramGenerator} emits a class with a call site per rule
+ * instead, each on a constant receiver that the JIT inlines.
+ *
+ * <p>A program is built for one limited order; {@link CompiledRuleSet} builds a new one when the
+ * order changes.
+ */
+interface RuleProgram {
+
+    /**
+     * Applies the rules in declaration order, stopping once {@code maxErrors} violations are
+     * found.
+     *
+     * @param observer told about every rule applied, or null
+     */
+    void run(Object[] values, List<Violation> violations, int maxErrors, Observer observer);
+
+    /**
+     * Same as {@link #run}, in the limited order the program was built for.
+     */
+    void runLimited(Object[] values, List<Violation> violations, int maxErrors, Observer observer);
+
+    /**
+     * Applies the rule at the index in the rule array.
+     */
+    void apply(int rule, Object[] values, List<Violation> violations);
+
+    /**
+     * Returns whether this program runs generated code rather than the interpreted loop.
+     */
+    boolean isGenerated();
+
+    /**
+     * Told right before and right after each rule a run applies, e.g. to meter it. Nothing else
+     * runs between the two calls, so timing them measures the rule alone.
+     */
+    interface Observer {
+        void applying(int rule);
+
+        void applied(int rule, int violationsAdded);
+    }
+
+    static RuleProgram interpreted(Rule[] rules, int[] limitedOrder) {
+        return new RuleProgram() {
+            @Override
+            public void run(Object[] values, List<Violation> violations, int maxErrors, Observer observer) {
+                for (int i = 0; i < rules.length; i++) {
+                    if (applyAndCheck(i, values, violations, maxErrors, observer)) {
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            public void runLimited(Object[] values, List<Violation> violations, int maxErrors, Observer observer) {
+                for (int i : limitedOrder) {
+                    if (applyAndCheck(i, values, violations, maxErrors, observer)) {
+                        return;
+                    }
+                }
+            }
+
+            private boolean applyAndCheck(int rule, Object[] values, List<Violation> violations, int maxErrors,
+                                          Observer observer) {
+                int before = violations.size();
+                if (observer != null) {
+                    observer.applying(rule);
+                }
+                rules[rule].apply(values, violations);
+                if (observer != null) {
+                    observer.applied(rule, violations.size() - before);
+                }
+                return violations.size() >= maxErrors;
+            }
+
+            @Override
+            public void apply(int rule, Object[] values, List<Violation> violations) {
+                rules[rule].apply(values, violations);
+            }
+
+            @Override
+            public boolean isGenerated() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.config_validator_service.rules;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Compiles a rule array into a hidden class that calls each rule directly, the way a
+ * hand-written validator would:
+ *
+ * <pre>
+ * public void run(Object[] values, List&lt;Violation&gt; violations, int maxErrors, Observer observer) {
+ *     int before = violations.size();
+ *     if (observer != null) observer.applying(0);
+ *     rule0.apply(values, violations);   // RequiredRule
+ *     if (observer != null) observer.applied(0, violations.size() - before);
+ *     if (violations.size() &gt;= maxErrors) return;
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Each rule is loaded as a dynamic constant from the class data, typed as its own class, so
+ * every call site has one constant receiver that the JIT inlines together with the rule's
+ * fields. The interpreted loop has a single call site for all rule classes, which the JIT
+ * leaves as a megamorphic virtual call. {@code runLimited} is the same code in the limited
+ * order, and indexed calls go through a {@code tableswitch} with a direct call in each case.
+ *
+ * <p>Rules are split over methods of {@value #CHUNK} rules, so that no method grows past the
+ * size the JIT compiles and inlines. The class is not linked to its class loader, so it is
+ * unloaded once its rule set is reloaded or reordered. Where classes cannot be defined at run
+ * time the rules run interpreted: in a GraalVM native image, detected up front since defining the
+ * class fails there with an error rather than an exception, or on a JVM that refuses the class.
+ */
+final class RuleProgramGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleProgramGenerator.class);
+
+    // Set by GraalVM while building and running a native image.
+    static final String NATIVE_IMAGE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+    private static final int CHUNK = 32;
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK);
+    private static final String CLASS_NAME = Type.getInternalName(RuleProgramGenerator.class)
+            .replace("RuleProgramGenerator", "GeneratedRuleProgram");
+    private static final String LIST = "java/util/List";
+    private static final String OBSERVER = Type.getInternalName(RuleProgram.Observer.class);
+    private static final String APPLY = "([Ljava/lang/Object;Ljava/util/List;)V";
+    private static final String APPLY_INDEXED = "(I[Ljava/lang/Object;Ljava/util/List;)V";
+    private static final String RUN = "([Ljava/lang/Object;Ljava/util/List;IL" + OBSERVER + ";)V";
+    private static final String RUN_CHUNK = "([Ljava/lang/Object;Ljava/util/List;IL" + OBSERVER + ";)Z";
+    private static final Handle CLASS_DATA_AT = new Handle(Opcodes.H_INVOKESTATIC,
+            "java/lang/invoke/MethodHandles", "classDataAt",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;",
+            false);
+
+    // Locals of the static run chunks: the four arguments, then the violation count before a rule.
+    private static final int VALUES = 0;
+    private static final int VIOLATIONS = 1;
+    private static final int MAX_ERRORS = 2;
+    private static final int RULE_OBSERVER = 3;
+    private static final int BEFORE = 4;
+
+    private RuleProgramGenerator() {
+    }
+
+    /**
+     * Returns a generated program for the rules and limited order, or the interpreted one if the
+     * class cannot be defined.
+     */
+    static RuleProgram generate(Rule[] rules, int[] limitedOrder) {
+        if (rules.length == 0 || System.getProperty(NATIVE_IMAGE_PROPERTY) != null) {
+            return RuleProgram.interpreted(rules, limitedOrder);
+        }
+        try {
+            Class<?> type = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(bytecode(rules, limitedOrder), List.of(rules), true)
+                    .lookupClass();
+            return (RuleProgram) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException ex) {
+            log.info("Running rules interpreted, could not generate a rule class: {}", ex.toString());
+            return RuleProgram.interpreted(rules, limitedOrder);
+        }
+    }
+
+    private static byte[] bytecode(Rule[] rules, int[] limitedOrder) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // Only reached when frames merge different types, which the generated code never does.
+                return "java/lang/Object";
+            }
+        };
+        writer.visit(Opcodes.V17, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC, CLASS_NAME, null,
+                "java/lang/Object", new String[] {Type.getInternalName(RuleProgram.class)});
+        constructor(writer);
+        int[] declarationOrder = new int[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            declarationOrder[i] = i;
+        }
+        run(writer, rules, "run", declarationOrder);
+        run(writer, rules, "runLimited", limitedOrder);
+        apply(writer, rules);
+        isGenerated(writer);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void constructor(ClassWriter writer) {
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Emits a run method that calls a chunk method per {@value #CHUNK} rules of the order and
+     * returns as soon as one reports the error limit reached.
+     */
+    private static void run(ClassWriter writer, Rule[] rules, String name, int[] order) {
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, name, RUN, null, null);
+        method.visitCode();
+        for (int from = 0; from < order.length; from += CHUNK) {
+            String chunk = name + (from >> CHUNK_SHIFT);
+            runChunk(writer, rules, chunk, order, from, Math.min(order.length, from + CHUNK));
+            Label next = new Label();
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitVarInsn(Opcodes.ALOAD, 2);
+            method.visitVarInsn(Opcodes.ILOAD, 3);
+            method.visitVarInsn(Opcodes.ALOAD, 4);
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, CLASS_NAME, chunk, RUN_CHUNK, false);
+            method.visitJumpInsn(Opcodes.IFEQ, next);
+            method.visitInsn(Opcodes.RETURN);
+            method.visitLabel(next);
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void runChunk(ClassWriter writer, Rule[] rules, String name, int[] order, int from, int to) {
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, name, RUN_CHUNK, null,
+                null);
+        method.visitCode();
+        for (int n = from; n < to; n++) {
+            int rule = order[n];
+            Label unobservedBefore = new Label();
+            Label unobservedAfter = new Label();
+            Label belowLimit = new Label();
+            size(method);
+            method.visitVarInsn(Opcodes.ISTORE, BEFORE);
+            method.visitVarInsn(Opcodes.ALOAD, RULE_OBSERVER);
+            method.visitJumpInsn(Opcodes.IFNULL, unobservedBefore);
+            method.visitVarInsn(Opcodes.ALOAD, RULE_OBSERVER);
+            method.visitLdcInsn(rule);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, OBSERVER, "applying", "(I)V", true);
+            method.visitLabel(unobservedBefore);
+            callRule(method, rules, rule, VALUES);
+
+            method.visitVarInsn(Opcodes.ALOAD, RULE_OBSERVER);
+            method.visitJumpInsn(Opcodes.IFNULL, unobservedAfter);
+            method.visitVarInsn(Opcodes.ALOAD, RULE_OBSERVER);
+            method.visitLdcInsn(rule);
+            size(method);
+            method.visitVarInsn(Opcodes.ILOAD, BEFORE);
+            method.visitInsn(Opcodes.ISUB);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, OBSERVER, "applied", "(II)V", true);
+            method.visitLabel(unobservedAfter);
+
+            size(method);
+            method.visitVarInsn(Opcodes.ILOAD, MAX_ERRORS);
+            method.visitJumpInsn(Opcodes.IF_ICMPLT, belowLimit);
+            method.visitInsn(Opcodes.ICONST_1);
+            method.visitInsn(Opcodes.IRETURN);
+            method.visitLabel(belowLimit);
+        }
+        method.visitInsn(Opcodes.ICONST_0);
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void size(MethodVisitor method) {
+        method.visitVarInsn(Opcodes.ALOAD, VIOLATIONS);
+        method.visitMethodInsn(Opcodes.INVOKEINTERFACE, LIST, "size", "()I", true);
+    }
+
+    private static void apply(ClassWriter writer, Rule[] rules) {
+        int chunks = (rules.length + CHUNK - 1) / CHUNK;
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "apply", APPLY_INDEXED, null, null);
+        method.visitCode();
+        Label outOfBounds = new Label();
+        Label[] cases = labels(chunks);
+        method.visitVarInsn(Opcodes.ILOAD, 1);
+        method.visitIntInsn(Opcodes.BIPUSH, CHUNK_SHIFT);
+        method.visitInsn(Opcodes.ISHR);
+        method.visitTableSwitchInsn(0, chunks - 1, outOfBounds, cases);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * CHUNK;
+            applyChunk(writer, rules, "apply" + chunk, from, Math.min(rules.length, from + CHUNK));
+            method.visitLabel(cases[chunk]);
+            method.visitVarInsn(Opcodes.ILOAD, 1);
+            method.visitVarInsn(Opcodes.ALOAD, 2);
+            method.visitVarInsn(Opcodes.ALOAD, 3);
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, CLASS_NAME, "apply" + chunk, APPLY_INDEXED, false);
+            method.visitInsn(Opcodes.RETURN);
+        }
+        method.visitLabel(outOfBounds);
+        throwOutOfBounds(method, 1);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void applyChunk(ClassWriter writer, Rule[] rules, String name, int from, int to) {
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, name, APPLY_INDEXED,
+                null, null);
+        method.visitCode();
+        Label outOfBounds = new Label();
+        Label[] cases = labels(to - from);
+        method.visitVarInsn(Opcodes.ILOAD, 0);
+        method.visitTableSwitchInsn(from, to - 1, outOfBounds, cases);
+        for (int rule = from; rule < to; rule++) {
+            method.visitLabel(cases[rule - from]);
+            callRule(method, rules, rule, 1);
+            method.visitInsn(Opcodes.RETURN);
+        }
+        method.visitLabel(outOfBounds);
+        throwOutOfBounds(method, 0);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void isGenerated(ClassWriter writer) {
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "isGenerated", "()Z", null, null);
+        method.visitCode();
+        method.visitInsn(Opcodes.ICONST_1);
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Emits {@code rule.apply(values, violations)} with the rule as a constant of its own class,
+     * reading the arguments from the local variables starting at {@code firstArgument}.
+     */
+    private static void callRule(MethodVisitor method, Rule[] rules, int rule, int firstArgument) {
+        Class<?> type = rules[rule].getClass();
+        method.visitLdcInsn(new ConstantDynamic("_", Type.getDescriptor(type), CLASS_DATA_AT, rule));
+        method.visitVarInsn(Opcodes.ALOAD, firstArgument);
+        method.visitVarInsn(Opcodes.ALOAD, firstArgument + 1);
+        method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(type), "apply", APPLY, false);
+    }
+
+    private static void throwOutOfBounds(MethodVisitor method, int index) {
+        method.visitTypeInsn(Opcodes.NEW, "java/lang/IndexOutOfBoundsException");
+        method.visitInsn(Opcodes.DUP);
+        method.visitVarInsn(Opcodes.ILOAD, index);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "(I)V", false);
+        method.visitInsn(Opcodes.ATHROW);
+    }
+
+    private static Label[] labels(int count) {
+        Label[] labels = new Label[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = new Label();
+        }
+        return labels;
+    }
+}
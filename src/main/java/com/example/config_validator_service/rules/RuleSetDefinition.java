@@ -0,0 +1,89 @@
+package com.example.config_validator_service.rules;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declarative description of the validation rules. It is the single source for both the
+ * compiled validators ({@link RuleCompiler}) and the published schema.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleSetDefinition {
+    private String version;
+    private List<Field> fields;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Field {
+        private String name;
+        /** One of String, Boolean, Integer. */
+        private String type;
+        private String description;
+        private boolean required = true;
+        private List<String> allowedValues;
+        private Range range;
+        private RangeByField rangeBy;
+        private List<ForbiddenValue> forbidden;
+        private Password password;
+        /**
+         * Marks the value as secret, e.g. so caches keep only a digest of it. Fields with a
+         * password rule are always treated as sensitive.
+         */
+        private boolean sensitive;
+
+        public Field(String name, String type, String description) {
+            this.name = name;
+            this.type = type;
+            this.description = description;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Range {
+        private long min;
+        private long max;
+    }
+
+    /**
+     * Numeric range selected by the value of another field, e.g. maxConnections by environment.
+     * {@code fallback} applies when the other field holds a value without its own range.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RangeByField {
+        private String field;
+        private Map<String, Range> ranges;
+        private Range fallback;
+    }
+
+    /**
+     * Rejects {@code value} while field {@code whenField} equals {@code whenEquals}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ForbiddenValue {
+        private Object value;
+        private String whenField;
+        private String whenEquals;
+        private String message;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Password {
+        private int minLength;
+        private List<String> requiredClasses;
+    }
+}
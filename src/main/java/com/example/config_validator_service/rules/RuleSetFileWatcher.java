@@ -0,0 +1,173 @@
+package com.example.config_validator_service.rules;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the rule set from {@code validation.rules.file} and reloads it whenever the file
+ * changes. The whole directory is watched and the content hash decides whether anything
+ * changed, which also covers editors that replace files and Kubernetes ConfigMap volumes that
+ * swap a symlink. A file that fails to parse or compile is logged and the previous rule set
+ * stays active.
+ */
+@Component
+public class RuleSetFileWatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleSetFileWatcher.class);
+
+    private final RuleSetRegistry registry;
+    private final Path file;
+    private final Duration debounce;
+    private final Timer reloadSuccess;
+    private final Timer reloadFailure;
+    private final MultiGauge activeVersion;
+
+    private String loadedHash;
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    @Autowired
+    public RuleSetFileWatcher(RuleSetRegistry registry,
+                              MeterRegistry meterRegistry,
+                              @Value("${validation.rules.file:}") String file,
+                              @Value("${validation.rules.reload-debounce:250ms}") Duration debounce) {
+        this.registry = registry;
+        this.file = file.isBlank() ? null : Paths.get(file).toAbsolutePath();
+        this.debounce = debounce;
+        this.reloadSuccess = Timer.builder("validation.rules.reload")
+                .description("Time to read, parse and compile a rule-set file")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.reloadFailure = Timer.builder("validation.rules.reload")
+                .description("Time to read, parse and compile a rule-set file")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.activeVersion = MultiGauge.builder("validation.rules.active")
+                .description("Active rule-set version (value is always 1)")
+                .register(meterRegistry);
+
+        registry.addListener(this::publishVersion);
+        publishVersion(registry.current());
+        if (this.file != null && !reload()) {
+            throw new IllegalStateException("Could not load rule set from " + this.file);
+        }
+    }
+
+    /**
+     * Reads the file and activates it if its content changed since the last successful load.
+     * Synchronized because the watcher thread and manual callers may reload at the same time;
+     * otherwise an older read could be activated last.
+     *
+     * @return false if the file could not be read, parsed or compiled
+     */
+    public synchronized boolean reload() {
+        long start = System.nanoTime();
+        try {
+            byte[] content = Files.readAllBytes(file);
+            String hash = RuleSetLoader.hash(content);
+            if (hash.equals(loadedHash)) {
+                return true;
+            }
+            CompiledRuleSet ruleSet = RuleCompiler.compile(
+                    RuleSetLoader.parse(content, file.getFileName().toString()));
+            registry.activate(ruleSet);
+            loadedHash = hash;
+            reloadSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Activated rule set {} from {}", ruleSet.getVersion(), file);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            reloadFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Keeping rule set {}; failed to load {}: {}",
+                    registry.current().getVersion(), file, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void publishVersion(CompiledRuleSet ruleSet) {
+        activeVersion.register(List.of(MultiGauge.Row.of(Tags.of("version", ruleSet.getVersion()), 1)), true);
+    }
+
+    @Override
+    public void start() {
+        if (file == null) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot watch " + file.getParent(), ex);
+        }
+        running = true;
+        watcherThread = new Thread(this::watch, "rule-set-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    private void watch() {
+        try {
+            while (running) {
+                drain(watchService.take());
+                // Editors and ConfigMap updates arrive as bursts of events; settle before reading.
+                Thread.sleep(debounce.toMillis());
+                WatchKey key;
+                while ((key = watchService.poll()) != null) {
+                    drain(key);
+                }
+                if (Files.exists(file)) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            // stop() closed the watch service
+        }
+    }
+
+    private static void drain(WatchKey key) {
+        key.pollEvents();
+        key.reset();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ex) {
+                log.debug("Failed to close rule-set watch service", ex);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
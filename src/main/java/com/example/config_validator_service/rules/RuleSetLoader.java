@@ -0,0 +1,52 @@
+package com.example.config_validator_service.rules;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Parses rule-set files. The format is chosen by file extension: {@code .json} is read as
+ * JSON, everything else as YAML.
+ */
+public final class RuleSetLoader {
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private static final ObjectMapper YAML = YAMLMapper.builder()
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private RuleSetLoader() {
+    }
+
+    /**
+     * Parses {@code content}. A definition without a version is given one derived from the
+     * content hash, so every distinct file yields a distinct version.
+     */
+    public static RuleSetDefinition parse(byte[] content, String fileName) {
+        ObjectMapper mapper = fileName.toLowerCase(Locale.ROOT).endsWith(".json") ? JSON : YAML;
+        RuleSetDefinition definition = mapper.readValue(content, RuleSetDefinition.class);
+        if (definition == null) {
+            throw new IllegalArgumentException("Rule set file " + fileName + " is empty");
+        }
+        if (definition.getVersion() == null || definition.getVersion().isBlank()) {
+            definition.setVersion("sha256-" + hash(content).substring(0, 12));
+        }
+        return definition;
+    }
+
+    static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
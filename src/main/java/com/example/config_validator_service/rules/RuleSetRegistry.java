@@ -0,0 +1,51 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.service.PasswordPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Holds the active {@link CompiledRuleSet} behind a single volatile reference. Readers take
+ * one snapshot per validation and never block; a reload compiles off the request path and
+ * publishes the new rule set with one write, so no caller sees a half-updated rule set.
+ */
+@Component
+public class RuleSetRegistry {
+
+    private final List<Consumer<CompiledRuleSet>> listeners = new CopyOnWriteArrayList<>();
+    private volatile CompiledRuleSet current;
+
+    @Autowired
+    public RuleSetRegistry(PasswordPolicy passwordPolicy) {
+        this(RuleCompiler.compile(DefaultRules.create(passwordPolicy)));
+    }
+
+    public RuleSetRegistry(CompiledRuleSet initial) {
+        this.current = initial;
+    }
+
+    public CompiledRuleSet current() {
+        return current;
+    }
+
+    /**
+     * Makes {@code ruleSet} the active rule set and then notifies listeners on the calling thread.
+     */
+    public void activate(CompiledRuleSet ruleSet) {
+        current = ruleSet;
+        for (Consumer<CompiledRuleSet> listener : listeners) {
+            listener.accept(ruleSet);
+        }
+    }
+
+    /**
+     * Registers a callback invoked after every {@link #activate(CompiledRuleSet)}.
+     */
+    public void addListener(Consumer<CompiledRuleSet> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.config_validator_service.rules;
+
+import tools.jackson.core.exc.StreamReadException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Buffered, single-pass character reader with a few characters of lookahead, for the
+ * line-oriented document binders. Not thread-safe; one per document.
+ */
+final class TextCursor {
+
+    static final int EOF = -1;
+
+    private final Reader reader;
+    private final String format;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int line = 1;
+
+    TextCursor(Reader reader, String format) {
+        this.reader = reader;
+        this.format = format;
+    }
+
+    /**
+     * Returns the next character without consuming it, or {@link #EOF}.
+     */
+    int peek() throws IOException {
+        return peek(0);
+    }
+
+    /**
+     * Returns the character {@code ahead} positions past the next one, or {@link #EOF}.
+     */
+    int peek(int ahead) throws IOException {
+        if (position + ahead >= limit && !fill(ahead + 1)) {
+            return EOF;
+        }
+        return buffer[position + ahead];
+    }
+
+    int read() throws IOException {
+        int c = peek(0);
+        if (c != EOF) {
+            position++;
+            if (c == '\n') {
+                line++;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Consumes the next character if it is {@code c}.
+     */
+    boolean skip(char c) throws IOException {
+        if (peek(0) == c) {
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a syntax error for the current line, for the caller to throw.
+     */
+    StreamReadException error(String message) {
+        return new StreamReadException("Invalid " + format + " at line " + line + ": " + message);
+    }
+
+    private boolean fill(int needed) throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (limit < needed) {
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                return false;
+            }
+            limit += read;
+        }
+        return true;
+    }
+}
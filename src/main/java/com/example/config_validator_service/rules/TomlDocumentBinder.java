@@ -0,0 +1,644 @@
+package com.example.config_validator_service.rules;
+
+import tools.jackson.core.exc.StreamReadException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Month;
+import java.time.Year;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Fills field slots from a TOML document in one streaming pass, without building a tree. Every
+ * TOML value is assigned under its full key path, the enclosing table header plus its dotted
+ * key, so it is looked up in the {@link FieldPathTrie} as it is read and skipped if no field
+ * addresses it.
+ *
+ * <p>Values bind like their JSON counterparts in {@link JsonDocumentBinder}: integers as Integer
+ * or Long, floats as Double, and dates and times as their text. Tables bind as
+ * {@link JsonDocumentBinder.Structure#OBJECT}; arrays and arrays of tables bind as
+ * {@link JsonDocumentBinder.Structure#ARRAY} and their contents are never addressed.
+ *
+ * <p>The grammar is checked, including every bare value, addressed or not: numbers must be
+ * well-formed without leading zeros, and dates and times must be RFC 3339 with real calendar
+ * dates and clock times. Not checked are redefinitions that TOML forbids, where the last value
+ * wins, and whether an unaddressed integer fits in 64 bits, since unaddressed values are only
+ * scanned, not parsed.
+ */
+final class TomlDocumentBinder {
+
+    private final FieldPathTrie fields;
+
+    TomlDocumentBinder(FieldPathTrie fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Binds the whole document.
+     *
+     * @throws StreamReadException if the document is not valid TOML
+     */
+    Object[] bind(Reader document) throws IOException {
+        return new Reading(new TextCursor(document, "TOML"), new Object[fields.fieldCount()])
+                .document(fields.root());
+    }
+
+    private static final class Reading {
+        private final TextCursor in;
+        private final Object[] values;
+        private final StringBuilder text = new StringBuilder();
+        // Nodes opened by [[...]] headers; sub-tables of array elements are not addressable.
+        private Set<FieldPathTrie.Node> arrayTables;
+
+        Reading(TextCursor in, Object[] values) {
+            this.in = in;
+            this.values = values;
+        }
+
+        Object[] document(FieldPathTrie.Node root) throws IOException {
+            in.skip('\uFEFF');
+            FieldPathTrie.Node table = root;
+            while (true) {
+                skipBlankLines();
+                if (in.peek() == TextCursor.EOF) {
+                    return values;
+                }
+                if (in.skip('[')) {
+                    boolean arrayTable = in.skip('[');
+                    skipSpaces();
+                    FieldPathTrie.Node node = key(root, true);
+                    expect(']');
+                    if (arrayTable) {
+                        expect(']');
+                        bind(node, JsonDocumentBinder.Structure.ARRAY);
+                        if (node != null) {
+                            arrayTables().add(node);
+                        }
+                        table = null;
+                    } else {
+                        bind(node, JsonDocumentBinder.Structure.OBJECT);
+                        table = node;
+                    }
+                } else {
+                    keyValue(table);
+                }
+                endOfLine();
+            }
+        }
+
+        private void keyValue(FieldPathTrie.Node table) throws IOException {
+            FieldPathTrie.Node node = key(table, false);
+            expect('=');
+            skipSpaces();
+            value(node);
+        }
+
+        /**
+         * Reads a dotted key starting from {@code node} and returns the node it ends at, or null
+         * if no field path follows it. Tables the key passes through bind as objects.
+         */
+        private FieldPathTrie.Node key(FieldPathTrie.Node node, boolean header) throws IOException {
+            while (true) {
+                String key = simpleKey(node != null);
+                node = node != null ? node.child(key) : null;
+                if (header && node != null && arrayTables != null && arrayTables.contains(node)) {
+                    node = null;
+                }
+                skipSpaces();
+                if (!in.skip('.')) {
+                    return node;
+                }
+                bind(node, JsonDocumentBinder.Structure.OBJECT);
+                skipSpaces();
+            }
+        }
+
+        private String simpleKey(boolean keep) throws IOException {
+            int c = in.peek();
+            if (c == '"' || c == '\'') {
+                if (in.peek(1) == c && in.peek(2) == c) {
+                    throw in.error("multi-line strings cannot be keys");
+                }
+                return string(keep);
+            }
+            text.setLength(0);
+            while (isBareKeyChar(in.peek())) {
+                text.append((char) in.read());
+            }
+            if (text.length() == 0) {
+                throw in.error("expected a key");
+            }
+            return keep ? text.toString() : null;
+        }
+
+        private void value(FieldPathTrie.Node node) throws IOException {
+            boolean keep = node != null && node.slot >= 0;
+            int c = in.peek();
+            if (c == '"' || c == '\'') {
+                bind(node, string(keep));
+            } else if (in.skip('[')) {
+                bind(node, JsonDocumentBinder.Structure.ARRAY);
+                array();
+            } else if (in.skip('{')) {
+                bind(node, JsonDocumentBinder.Structure.OBJECT);
+                inlineTable(node);
+            } else {
+                bind(node, bareValue(keep));
+            }
+        }
+
+        private void array() throws IOException {
+            while (true) {
+                skipBlankLines();
+                if (in.skip(']')) {
+                    return;
+                }
+                value(null);
+                skipBlankLines();
+                if (in.skip(']')) {
+                    return;
+                }
+                if (!in.skip(',')) {
+                    throw in.error("expected ',' or ']' in array");
+                }
+            }
+        }
+
+        private void inlineTable(FieldPathTrie.Node node) throws IOException {
+            skipSpaces();
+            if (in.skip('}')) {
+                return;
+            }
+            while (true) {
+                keyValue(node);
+                skipSpaces();
+                if (in.skip('}')) {
+                    return;
+                }
+                if (!in.skip(',')) {
+                    throw in.error("expected ',' or '}' in inline table");
+                }
+                skipSpaces();
+            }
+        }
+
+        /**
+         * Reads any of the four string forms, positioned at the opening quote.
+         */
+        private String string(boolean keep) throws IOException {
+            char quote = (char) in.read();
+            boolean multiLine = in.peek() == quote && in.peek(1) == quote;
+            if (multiLine) {
+                in.read();
+                in.read();
+                // A newline right after the opening delimiter is trimmed.
+                in.skip('\r');
+                in.skip('\n');
+            }
+            text.setLength(0);
+            while (true) {
+                if (!multiLine && (in.peek() == '\n' || in.peek() == '\r')) {
+                    throw in.error("newline in single-line string");
+                }
+                int c = in.read();
+                if (c == TextCursor.EOF) {
+                    throw in.error("unterminated string");
+                }
+                if (c == quote) {
+                    if (!multiLine) {
+                        break;
+                    }
+                    if (in.peek() == quote && in.peek(1) == quote) {
+                        in.read();
+                        in.read();
+                        // Up to two quotes may directly precede the closing delimiter.
+                        for (int extra = 0; extra < 2 && in.skip(quote); extra++) {
+                            text.append(quote);
+                        }
+                        break;
+                    }
+                    text.append(quote);
+                } else if (c == '\\' && quote == '"') {
+                    escape(multiLine);
+                } else {
+                    text.append((char) c);
+                }
+            }
+            return keep ? text.toString() : null;
+        }
+
+        private void escape(boolean multiLine) throws IOException {
+            int c = in.read();
+            switch (c) {
+                case 'b':
+                    text.append('\b');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 'f':
+                    text.append('\f');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 'e':
+                    text.append('\u001B');
+                    break;
+                case '"':
+                case '\\':
+                    text.append((char) c);
+                    break;
+                case 'x':
+                    text.appendCodePoint(hex(2));
+                    break;
+                case 'u':
+                    text.appendCodePoint(hex(4));
+                    break;
+                case 'U':
+                    text.appendCodePoint(hex(8));
+                    break;
+                case ' ':
+                case '\t':
+                case '\r':
+                case '\n':
+                    // Line-ending backslash: drop the newline and the whitespace after it.
+                    if (multiLine && skipLineEnding(c == '\n')) {
+                        break;
+                    }
+                    throw in.error("invalid escape");
+                default:
+                    throw in.error("invalid escape");
+            }
+        }
+
+        private boolean skipLineEnding(boolean newline) throws IOException {
+            while (isSpace(in.peek()) || in.peek() == '\r' || in.peek() == '\n') {
+                newline |= in.read() == '\n';
+            }
+            return newline;
+        }
+
+        private int hex(int digits) throws IOException {
+            int codePoint = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = Character.digit(in.read(), 16);
+                if (digit < 0) {
+                    throw in.error("invalid unicode escape");
+                }
+                codePoint = codePoint * 16 + digit;
+            }
+            if (!Character.isValidCodePoint(codePoint)
+                    || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                throw in.error("invalid unicode escape");
+            }
+            return codePoint;
+        }
+
+        private Object bareValue(boolean keep) throws IOException {
+            text.setLength(0);
+            while (isBareValueChar(in.peek())) {
+                text.append((char) in.read());
+            }
+            // A date and a time may be separated by a space instead of 'T'.
+            if (text.length() == 10 && text.charAt(4) == '-' && in.peek() == ' ' && isDigit(in.peek(1))) {
+                text.append((char) in.read());
+                while (isBareValueChar(in.peek())) {
+                    text.append((char) in.read());
+                }
+            }
+            if (text.length() == 0) {
+                throw in.error("expected a value");
+            }
+            Scalar kind = Scalar.of(text);
+            if (kind == null) {
+                throw in.error("invalid value '" + text + "'");
+            }
+            return keep ? scalar(kind, text.toString()) : null;
+        }
+
+        private Object scalar(Scalar kind, String token) {
+            switch (kind) {
+                case BOOLEAN:
+                    return Boolean.valueOf(token);
+                case DATE_TIME:
+                    return token;
+                case SPECIAL_FLOAT:
+                    return token.endsWith("nan") ? Double.NaN
+                            : token.startsWith("-") ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                default:
+                    try {
+                        return number(token);
+                    } catch (NumberFormatException ex) {
+                        throw in.error("invalid value '" + token + "'");
+                    }
+            }
+        }
+
+        private void bind(FieldPathTrie.Node node, Object value) {
+            if (node != null && node.slot >= 0) {
+                values[node.slot] = value;
+            }
+        }
+
+        private void expect(char c) throws IOException {
+            skipSpaces();
+            if (!in.skip(c)) {
+                throw in.error("expected '" + c + "'");
+            }
+        }
+
+        private void skipSpaces() throws IOException {
+            while (isSpace(in.peek())) {
+                in.read();
+            }
+        }
+
+        private void skipBlankLines() throws IOException {
+            while (true) {
+                int c = in.peek();
+                if (isSpace(c) || c == '\n' || c == '\r') {
+                    in.read();
+                } else if (c == '#') {
+                    skipComment();
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void skipComment() throws IOException {
+            while (in.peek() != '\n' && in.peek() != TextCursor.EOF) {
+                in.read();
+            }
+        }
+
+        private void endOfLine() throws IOException {
+            skipSpaces();
+            if (in.peek() == '#') {
+                skipComment();
+            }
+            in.skip('\r');
+            if (!in.skip('\n') && in.peek() != TextCursor.EOF) {
+                throw in.error("expected a newline after the value");
+            }
+        }
+
+        private Set<FieldPathTrie.Node> arrayTables() {
+            if (arrayTables == null) {
+                arrayTables = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return arrayTables;
+        }
+    }
+
+    /**
+     * The kinds of bare TOML value, told apart and checked without parsing them.
+     */
+    enum Scalar {
+        BOOLEAN, INTEGER, FLOAT, SPECIAL_FLOAT, DATE_TIME;
+
+        /**
+         * Returns the kind of a bare value, or null if it is not valid TOML.
+         */
+        static Scalar of(CharSequence token) {
+            int length = token.length();
+            if (matches(token, 0, "true") || matches(token, 0, "false")) {
+                return BOOLEAN;
+            }
+            int start = token.charAt(0) == '+' || token.charAt(0) == '-' ? 1 : 0;
+            if (matches(token, start, "inf") || matches(token, start, "nan")) {
+                return SPECIAL_FLOAT;
+            }
+            if (start == 0 && length > 2 && token.charAt(0) == '0' && "xob".indexOf(token.charAt(1)) >= 0) {
+                int radix = token.charAt(1) == 'x' ? 16 : token.charAt(1) == 'o' ? 8 : 2;
+                return digits(token, 2, radix) == length ? INTEGER : null;
+            }
+            if (length >= 8 && isDigit(token.charAt(0)) && isDigit(token.charAt(1))
+                    && (token.charAt(2) == ':' || (token.charAt(4) == '-' && isDigit(token.charAt(3))))) {
+                return isDateOrTime(token) ? DATE_TIME : null;
+            }
+            int end = digits(token, start, 10);
+            if (end < 0 || (token.charAt(start) == '0' && end > start + 1)) {
+                // Leading zeros are not allowed, in floats either.
+                return null;
+            }
+            if (end == length) {
+                return INTEGER;
+            }
+            boolean fraction = token.charAt(end) == '.';
+            if (fraction) {
+                end = digits(token, end + 1, 10);
+            }
+            if (end >= 0 && end < length && (token.charAt(end) == 'e' || token.charAt(end) == 'E')) {
+                int exponent = end + 1 < length && (token.charAt(end + 1) == '+' || token.charAt(end + 1) == '-')
+                        ? end + 2 : end + 1;
+                end = digits(token, exponent, 10);
+            } else if (!fraction) {
+                return null;
+            }
+            return end == length ? FLOAT : null;
+        }
+
+        private static boolean matches(CharSequence token, int from, String word) {
+            if (token.length() - from != word.length()) {
+                return false;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                if (token.charAt(from + i) != word.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the end of the digits starting at {@code from}, which may be separated by single
+         * underscores, or -1 if there is no digit there.
+         */
+        private static int digits(CharSequence token, int from, int radix) {
+            if (from >= token.length() || Character.digit(token.charAt(from), radix) < 0) {
+                return -1;
+            }
+            int i = from + 1;
+            while (i < token.length()) {
+                if (Character.digit(token.charAt(i), radix) >= 0) {
+                    i++;
+                } else if (token.charAt(i) == '_' && i + 1 < token.length()
+                        && Character.digit(token.charAt(i + 1), radix) >= 0) {
+                    i += 2;
+                } else {
+                    break;
+                }
+            }
+            return i;
+        }
+
+        /**
+         * Checks an offset date-time, local date-time, local date or local time.
+         */
+        private static boolean isDateOrTime(CharSequence token) {
+            int length = token.length();
+            if (token.charAt(2) == ':') {
+                return time(token, 0) == length;
+            }
+            if (!isDate(token)) {
+                return false;
+            }
+            if (length == 10) {
+                return true;
+            }
+            char separator = token.charAt(10);
+            if (separator != 'T' && separator != 't' && separator != ' ') {
+                return false;
+            }
+            int end = time(token, 11);
+            if (end == length) {
+                return true;
+            }
+            if (end < 0) {
+                return false;
+            }
+            char offset = token.charAt(end);
+            if (offset == 'Z' || offset == 'z') {
+                return end + 1 == length;
+            }
+            return (offset == '+' || offset == '-') && end + 6 == length && token.charAt(end + 3) == ':'
+                    && number(token, end + 1, 2, 23) && number(token, end + 4, 2, 59);
+        }
+
+        private static boolean isDate(CharSequence token) {
+            if (token.length() < 10 || token.charAt(4) != '-' || token.charAt(7) != '-'
+                    || !number(token, 0, 4, 9999) || !number(token, 5, 2, 12) || !number(token, 8, 2, 31)) {
+                return false;
+            }
+            int month = value(token, 5, 2);
+            int day = value(token, 8, 2);
+            return month >= 1 && day >= 1 && day <= Month.of(month).length(Year.isLeap(value(token, 0, 4)));
+        }
+
+        /**
+         * Returns the end of a time {@code hh:mm:ss[.fraction]} at {@code from}, or -1.
+         */
+        private static int time(CharSequence token, int from) {
+            if (token.length() < from + 8 || token.charAt(from + 2) != ':' || token.charAt(from + 5) != ':'
+                    || !number(token, from, 2, 23) || !number(token, from + 3, 2, 59)
+                    || !number(token, from + 6, 2, 60)) {
+                return -1;
+            }
+            int end = from + 8;
+            if (end < token.length() && token.charAt(end) == '.') {
+                int fraction = ++end;
+                while (end < token.length() && isDigit(token.charAt(end))) {
+                    end++;
+                }
+                if (end == fraction) {
+                    return -1;
+                }
+            }
+            return end;
+        }
+
+        private static boolean number(CharSequence token, int from, int digits, int max) {
+            if (token.length() < from + digits) {
+                return false;
+            }
+            for (int i = from; i < from + digits; i++) {
+                if (!isDigit(token.charAt(i))) {
+                    return false;
+                }
+            }
+            return value(token, from, digits) <= max;
+        }
+
+        private static int value(CharSequence token, int from, int digits) {
+            int value = 0;
+            for (int i = from; i < from + digits; i++) {
+                value = value * 10 + token.charAt(i) - '0';
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Parses a TOML integer or float: underscores between digits, hex, octal and binary
+     * integers, and Integer or Long where they fit, like {@link JsonDocumentBinder}.
+     */
+    static Number number(String token) {
+        int radix = 10;
+        String digits = token;
+        if (token.length() > 2 && token.charAt(0) == '0' && "xob".indexOf(token.charAt(1)) >= 0) {
+            radix = token.charAt(1) == 'x' ? 16 : token.charAt(1) == 'o' ? 8 : 2;
+            digits = token.substring(2);
+        } else if (token.indexOf('.') >= 0 || token.indexOf('e') >= 0 || token.indexOf('E') >= 0) {
+            return Double.parseDouble(checkFloat(stripUnderscores(token, 10)));
+        } else {
+            int start = token.startsWith("+") || token.startsWith("-") ? 1 : 0;
+            if (token.length() > start + 1 && token.charAt(start) == '0') {
+                throw new NumberFormatException("leading zero");
+            }
+        }
+        if (radix != 10 && (digits.startsWith("+") || digits.startsWith("-"))) {
+            throw new NumberFormatException("sign on non-decimal integer");
+        }
+        long value = Long.parseLong(stripUnderscores(digits, radix), radix);
+        return value == (int) value ? (Number) (int) value : (Number) value;
+    }
+
+    private static String stripUnderscores(String token, int radix) {
+        if (token.indexOf('_') < 0) {
+            return token;
+        }
+        StringBuilder digits = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c != '_') {
+                digits.append(c);
+            } else if (i == 0 || i == token.length() - 1 || Character.digit(token.charAt(i - 1), radix) < 0
+                    || Character.digit(token.charAt(i + 1), radix) < 0) {
+                throw new NumberFormatException("underscore not between digits");
+            }
+        }
+        return digits.toString();
+    }
+
+    private static String checkFloat(String token) {
+        // Double.parseDouble also takes forms TOML does not, e.g. ".5", "5.", "1d" or "03.14".
+        int dot = token.indexOf('.');
+        int start = token.startsWith("+") || token.startsWith("-") ? 1 : 0;
+        if (token.length() > start + 1 && token.charAt(start) == '0' && isDigit(token.charAt(start + 1))) {
+            throw new NumberFormatException("leading zero");
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if ("0123456789.eE+-".indexOf(token.charAt(i)) < 0) {
+                throw new NumberFormatException(token);
+            }
+        }
+        if (dot >= 0 && (dot == 0 || !isDigit(token.charAt(dot - 1))
+                || dot == token.length() - 1 || !isDigit(token.charAt(dot + 1)))) {
+            throw new NumberFormatException(token);
+        }
+        return token;
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBareKeyChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_' || c == '-';
+    }
+
+    private static boolean isBareValueChar(int c) {
+        return isBareKeyChar(c) || c == '+' || c == '.' || c == ':';
+    }
+}
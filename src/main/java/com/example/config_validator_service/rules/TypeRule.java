@@ -0,0 +1,37 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.Violation;
+
+import java.util.List;
+
+final class TypeRule extends Rule {
+
+    private final FieldType type;
+    private final Violation violation;
+
+    TypeRule(int slot, String field, FieldType type) {
+        super(slot, field);
+        this.type = type;
+        this.violation = Violation.of(ErrorCode.INVALID_TYPE, field,
+                "Field '" + field + "' must be of type " + type.displayName() + ".");
+    }
+
+    @Override
+    String kind() {
+        return "type";
+    }
+
+    @Override
+    int cost() {
+        return 2;
+    }
+
+    @Override
+    void apply(Object[] values, List<Violation> violations) {
+        Object value = values[slot];
+        if (value != null && !type.accepts(value)) {
+            violations.add(violation);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleOutcomes;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JsonNode;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Re-validates edits to a JSON document without re-running every rule. A full validation
+ * records a baseline under a fingerprint; a JSON Patch against that fingerprint then re-runs
+ * only the rules that read a changed field, directly or as a dependency such as the
+ * {@code environment} a {@code maxConnections} range is chosen by, see
+ * {@link CompiledRuleSet#reevaluate(RuleOutcomes, Object[], boolean[])}. The result is the same
+ * as validating the patched document in full, and is recorded as a baseline in turn, so edits
+ * can be chained. Rule sets with fewer than {@code validation.incremental.min-rules} rules, and
+ * patches affecting most rules, run every rule instead: working out which rules to skip would
+ * cost more than it saves.
+ *
+ * <p>A baseline holds the bound field values and each rule's violations, never the document.
+ * Sensitive values, such as the admin password, are not kept at all, so a patch that changes
+ * another input of a rule reading such a field must set that field as well. Fingerprints are
+ * random 128-bit tokens rather than digests of the values: hashing every value would cost more
+ * than the rules a one-field patch skips. Each thread draws them from its own DRBG, as the
+ * platform default takes a process-wide lock and reads the kernel on every call. At most
+ * {@code validation.incremental.max-baselines} are kept, each for
+ * {@code validation.incremental.ttl}, and all are dropped when the rule set is reloaded.
+ */
+@Service
+public class IncrementalValidationService {
+
+    /**
+     * Stands in for a sensitive value in a baseline. Never equal to a bound value, so a patch
+     * that sets the field always counts as a change.
+     */
+    private static final Object WITHHELD = new Object();
+
+    private static final ThreadLocal<SecureRandom> RANDOM =
+            ThreadLocal.withInitial(IncrementalValidationService::newRandom);
+
+    static final int DEFAULT_MIN_RULES = 16;
+
+    private final RuleSetRegistry ruleSets;
+    private final Cache<String, Baseline> baselines;
+    private final int minRules;
+    private final Counter evaluatedRules;
+    private final Counter reusedRules;
+
+    public IncrementalValidationService(RuleSetRegistry ruleSets, MeterRegistry meterRegistry,
+                                        long maxBaselines, Duration ttl) {
+        this(ruleSets, meterRegistry, maxBaselines, ttl, DEFAULT_MIN_RULES);
+    }
+
+    @Autowired
+    public IncrementalValidationService(RuleSetRegistry ruleSets, MeterRegistry meterRegistry,
+                                        @Value("${validation.incremental.max-baselines:10000}") long maxBaselines,
+                                        @Value("${validation.incremental.ttl:10m}") Duration ttl,
+                                        @Value("${validation.incremental.min-rules:16}") int minRules) {
+        if (maxBaselines < 1) {
+            throw new IllegalArgumentException("validation.incremental.max-baselines must be at least 1");
+        }
+        this.ruleSets = ruleSets;
+        this.minRules = minRules;
+        // Maintenance runs on the calling thread: handing it to the common pool on every write
+        // cost more than the maintenance itself.
+        this.baselines = Caffeine.newBuilder()
+                .maximumSize(maxBaselines)
+                .expireAfterAccess(ttl)
+                .executor(Runnable::run)
+                .build();
+        this.evaluatedRules = rulesCounter(meterRegistry, "evaluated");
+        this.reusedRules = rulesCounter(meterRegistry, "reused");
+        ruleSets.addListener(ruleSet -> baselines.invalidateAll());
+    }
+
+    private static Counter rulesCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("validation.incremental.rules")
+                .description("Rules run or carried over from the baseline by incremental validations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validates a JSON document in full, as {@link ValidationService#validateDocument} does, and
+     * records it as a baseline. Every rule runs, whatever {@code maxErrors} is, so that later
+     * patches can reuse all outcomes.
+     *
+     * @return the result and its fingerprint, or null if the document is not a single JSON object
+     */
+    public Validated validate(JsonParser document, int maxErrors) {
+        CompiledRuleSet ruleSet = ruleSets.current();
+        Object[] values = ruleSet.bind(document);
+        if (values == null) {
+            return null;
+        }
+        RuleOutcomes outcomes = ruleSet.evaluate(values);
+        evaluatedRules.increment(outcomes.getEvaluatedRules());
+        return record(ruleSet, values, outcomes, maxErrors);
+    }
+
+    /**
+     * Validates the baseline's document with the patch applied.
+     *
+     * @return the result and its fingerprint, or null if the baseline is unknown, has expired or
+     *     predates a rule-set reload
+     * @throws IllegalArgumentException if the patch is malformed or unsupported, see
+     *     {@link CompiledRuleSet#patch(Object[], JsonNode)}, or leaves out a sensitive field that
+     *     must be re-read
+     */
+    public Validated validatePatch(String fingerprint, JsonNode patch, int maxErrors) {
+        CompiledRuleSet ruleSet = ruleSets.current();
+        Baseline baseline = baselines.getIfPresent(fingerprint);
+        if (baseline == null || baseline.outcomes.getRuleSet() != ruleSet) {
+            return null;
+        }
+        Object[] values = baseline.values.clone();
+        boolean[] changed = ruleSet.patch(values, patch);
+        boolean[] read = ruleSet.slotsReadFor(changed);
+        for (int slot = 0; slot < values.length; slot++) {
+            // Sensitive slots the patch left alone are still withheld.
+            if (read[slot] && values[slot] == WITHHELD) {
+                throw new IllegalArgumentException("The patch must also set '" + ruleSet.getFieldName(slot)
+                        + "': a rule it affects reads that field, and its value is not kept with the baseline.");
+            }
+        }
+        RuleOutcomes outcomes = ruleSet.getRuleCount() < minRules
+                ? ruleSet.reevaluateAll(baseline.outcomes, values, changed)
+                : ruleSet.reevaluate(baseline.outcomes, values, changed);
+        evaluatedRules.increment(outcomes.getEvaluatedRules());
+        reusedRules.increment(ruleSet.getRuleCount() - outcomes.getEvaluatedRules());
+        return record(ruleSet, values, outcomes, maxErrors);
+    }
+
+    private Validated record(CompiledRuleSet ruleSet, Object[] values, RuleOutcomes outcomes, int maxErrors) {
+        ValidationResult result = outcomes.result(maxErrors);
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null && ruleSet.isSensitive(slot)) {
+                values[slot] = WITHHELD;
+            }
+        }
+        byte[] token = new byte[16];
+        RANDOM.get().nextBytes(token);
+        String fingerprint = HexFormat.of().formatHex(token);
+        baselines.put(fingerprint, new Baseline(values, outcomes));
+        return new Validated(fingerprint, result);
+    }
+
+    private static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG not available", e);
+        }
+    }
+
+    long size() {
+        baselines.cleanUp();
+        return baselines.estimatedSize();
+    }
+
+    private static final class Baseline {
+        final Object[] values;
+        final RuleOutcomes outcomes;
+
+        Baseline(Object[] values, RuleOutcomes outcomes) {
+            this.values = values;
+            this.outcomes = outcomes;
+        }
+    }
+
+    /**
+     * A validation result and the fingerprint to patch its document by.
+     */
+    public static final class Validated {
+        private final String fingerprint;
+        private final ValidationResult result;
+
+        Validated(String fingerprint, ValidationResult result) {
+            this.fingerprint = fingerprint;
+            this.result = result;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public ValidationResult getResult() {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.ValidationResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Validates a newline-delimited stream of {@link ConfigRequest} records, writing one
+ * {@link ValidationResult} line per record. Only the record currently being read is held in
+ * memory, so input size is unbounded.
+ *
+ * <p>Result lines are flushed whenever reading on would block, i.e. before each read of the
+ * input that finds nothing already received. A client sending records slowly or through a
+ * pipe thus gets each result as soon as it is validated, while input that is already there is
+ * answered in large writes rather than one flush per line.
+ */
+@Service
+public class NdjsonValidationService {
+
+    // Parser messages can quote the offending input; only this much of them is echoed.
+    private static final int MAX_MESSAGE_LENGTH = 200;
+
+    private final ValidationService validationService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+
+    @Autowired
+    public NdjsonValidationService(ValidationService validationService, ObjectMapper objectMapper) {
+        this.validationService = validationService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(ConfigRequest.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        // Lines are terminated explicitly, so suppress the default space between root values.
+        this.resultWriter = objectMapper.writerFor(ValidationResult.class).withRootValueSeparator("");
+    }
+
+    /**
+     * Reads records from {@code input} until end of stream and returns how many were processed.
+     * Records that cannot be bound produce a FAIL line and processing continues; a syntax error
+     * produces a final FAIL line and stops, since the stream cannot be resynchronised.
+     */
+    public long validate(InputStream input, OutputStream output) {
+        long records = 0;
+        try (JsonGenerator generator = resultWriter.createGenerator(output);
+             JsonParser parser = objectMapper.createParser(new FlushBeforeBlocking(input, generator))) {
+            while (true) {
+                ValidationResult result;
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == null) {
+                        break;
+                    }
+                    result = validateRecord(parser, token);
+                } catch (StreamReadException ex) {
+                    write(generator, fail("Malformed JSON record: " + truncate(ex.getOriginalMessage())));
+                    records++;
+                    break;
+                }
+                write(generator, result);
+                records++;
+            }
+            generator.flush();
+        }
+        return records;
+    }
+
+    private ValidationResult validateRecord(JsonParser parser, JsonToken token) {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return fail("Record must be a JSON object.");
+        }
+        int depth = parser.streamReadContext().getNestingDepth();
+        try {
+            return validationService.validate(requestReader.readValue(parser));
+        } catch (DatabindException ex) {
+            // Skip whatever is left of the offending object so the next record starts cleanly.
+            while (parser.streamReadContext().getNestingDepth() >= depth && parser.nextToken() != null) {
+                parser.skipChildren();
+            }
+            return fail("Malformed JSON request or invalid data types: " + truncate(ex.getOriginalMessage()));
+        }
+    }
+
+    private void write(JsonGenerator generator, ValidationResult result) {
+        resultWriter.writeValue(generator, result);
+        generator.writeRaw('\n');
+    }
+
+    private static ValidationResult fail(String message) {
+        return ValidationResult.failure(ErrorCode.MALFORMED_REQUEST, message);
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH) + "...";
+    }
+
+    /**
+     * Flushes the result lines written so far before a read that may block, so they are not held
+     * back while the client has yet to send more.
+     */
+    private static final class FlushBeforeBlocking extends FilterInputStream {
+
+        private final JsonGenerator generator;
+
+        FlushBeforeBlocking(InputStream input, JsonGenerator generator) {
+            super(input);
+            this.generator = generator;
+        }
+
+        @Override
+        public int read() throws IOException {
+            flushIfBlocking();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            flushIfBlocking();
+            return super.read(buffer, offset, length);
+        }
+
+        private void flushIfBlocking() throws IOException {
+            if (in.available() == 0) {
+                generator.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.config_validator_service.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Regex-free password policy. Every character is classified in a single pass through a
+ * precomputed ASCII lookup table and the outcome is reported as a bitmask of unmet
+ * criteria, so a check allocates nothing.
+ */
+public final class PasswordPolicy {
+
+    public static final int DEFAULT_MIN_LENGTH = 8;
+
+    /** Bit set in the result of {@link #check(String)} when the password is too short. */
+    public static final int TOO_SHORT = 1 << CharacterClass.values().length;
+
+    private static final String SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+    private static final byte[] CLASS_TABLE = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASS_TABLE[c] = (byte) CharacterClass.LOWERCASE.mask();
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASS_TABLE[c] = (byte) CharacterClass.UPPERCASE.mask();
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASS_TABLE[c] = (byte) CharacterClass.DIGIT.mask();
+        }
+        for (int i = 0; i < SPECIAL_CHARACTERS.length(); i++) {
+            CLASS_TABLE[SPECIAL_CHARACTERS.charAt(i)] = (byte) CharacterClass.SPECIAL.mask();
+        }
+    }
+
+    public enum CharacterClass {
+        LOWERCASE,
+        UPPERCASE,
+        DIGIT,
+        SPECIAL;
+
+        public int mask() {
+            return 1 << ordinal();
+        }
+    }
+
+    private final int minLength;
+    private final int requiredMask;
+    private final Set<CharacterClass> requiredClasses;
+    private final String requirementDescription;
+
+    public PasswordPolicy(int minLength, Collection<CharacterClass> requiredClasses) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException("minLength must not be negative");
+        }
+        this.minLength = minLength;
+        this.requiredClasses = requiredClasses.isEmpty()
+                ? EnumSet.noneOf(CharacterClass.class)
+                : EnumSet.copyOf(requiredClasses);
+        int mask = 0;
+        for (CharacterClass characterClass : this.requiredClasses) {
+            mask |= characterClass.mask();
+        }
+        this.requiredMask = mask;
+        this.requirementDescription = describe(minLength, this.requiredClasses);
+    }
+
+    public static PasswordPolicy defaults() {
+        return new PasswordPolicy(DEFAULT_MIN_LENGTH, EnumSet.allOf(CharacterClass.class));
+    }
+
+    /**
+     * Returns a bitmask of unmet criteria: {@link CharacterClass#mask()} for every required
+     * class that is missing, plus {@link #TOO_SHORT}. Zero means the password is accepted.
+     */
+    public int check(String password) {
+        int length = password.length();
+        int violations = length < minLength ? TOO_SHORT : 0;
+        int seen = 0;
+        for (int i = 0; i < length && (seen & requiredMask) != requiredMask; i++) {
+            char c = password.charAt(i);
+            if (c < 128) {
+                seen |= CLASS_TABLE[c];
+            }
+        }
+        return violations | (requiredMask & ~seen);
+    }
+
+    public boolean isValid(String password) {
+        return check(password) == 0;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public Set<CharacterClass> getRequiredClasses() {
+        return EnumSet.copyOf(requiredClasses);
+    }
+
+    /**
+     * Human-readable summary of the policy, e.g. "at least 8 characters long and contain
+     * mixed case, numbers, and special characters".
+     */
+    public String getRequirementDescription() {
+        return requirementDescription;
+    }
+
+    private static String describe(int minLength, Set<CharacterClass> classes) {
+        List<String> parts = new ArrayList<>();
+        boolean lower = classes.contains(CharacterClass.LOWERCASE);
+        boolean upper = classes.contains(CharacterClass.UPPERCASE);
+        if (lower && upper) {
+            parts.add("mixed case");
+        } else if (lower) {
+            parts.add("lowercase letters");
+        } else if (upper) {
+            parts.add("uppercase letters");
+        }
+        if (classes.contains(CharacterClass.DIGIT)) {
+            parts.add("numbers");
+        }
+        if (classes.contains(CharacterClass.SPECIAL)) {
+            parts.add("special characters");
+        }
+
+        StringBuilder sb = new StringBuilder("at least ").append(minLength).append(" characters long");
+        if (!parts.isEmpty()) {
+            sb.append(" and contain ");
+            for (int i = 0; i < parts.size(); i++) {
+                if (i > 0) {
+                    sb.append(parts.size() > 2 ? ", " : " ");
+                    if (i == parts.size() - 1) {
+                        sb.append("and ");
+                    }
+                }
+                sb.append(parts.get(i));
+            }
+        }
+        return sb.toString();
+    }
+}
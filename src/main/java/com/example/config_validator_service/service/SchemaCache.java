@@ -0,0 +1,74 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the schema pre-serialized as JSON (plain and gzip) together with strong ETags,
+ * so {@code GET /schema} never touches Jackson or rebuilds the definition. It is re-rendered
+ * whenever a new rule set is activated.
+ */
+@Component
+public class SchemaCache {
+
+    private final ObjectMapper objectMapper;
+    private volatile RenderedSchema rendered;
+
+    @Autowired
+    public SchemaCache(RuleSetRegistry ruleSets, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rendered = render(ruleSets.current());
+        ruleSets.addListener(ruleSet -> this.rendered = render(ruleSet));
+    }
+
+    public RenderedSchema get() {
+        return rendered;
+    }
+
+    private RenderedSchema render(CompiledRuleSet ruleSet) {
+        return render(objectMapper.writeValueAsBytes(ruleSet.getSchema()));
+    }
+
+    static RenderedSchema render(byte[] json) {
+        String hash = HexFormat.of().formatHex(sha256(json), 0, 16);
+        return new RenderedSchema(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    @Value
+    public static class RenderedSchema {
+        byte[] json;
+        byte[] gzipJson;
+        String etag;
+        String gzipEtag;
+    }
+}
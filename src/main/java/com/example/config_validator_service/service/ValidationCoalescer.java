@@ -0,0 +1,105 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight deduplication: concurrent validations of identical values share one evaluation
+ * and its result. Disabled by default ({@code validation.coalescing.enabled}); worth enabling
+ * when bursts of clients submit the same config at the same moment.
+ *
+ * <p>The first caller for a key registers a future and evaluates; callers arriving while it runs
+ * wait on that future instead. The entry is removed as soon as the evaluation ends, so nothing
+ * is retained afterwards, sensitive values included. The result cache already coalesces its own
+ * misses, so {@link ValidationService} only uses this when the cache is off.
+ */
+@Component
+public class ValidationCoalescer {
+
+    private final boolean enabled;
+    private final ConcurrentMap<ValidationKey, CompletableFuture<ValidationResult>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    @Autowired
+    public ValidationCoalescer(MeterRegistry meterRegistry,
+                               @Value("${validation.coalescing.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+        this.executed = Counter.builder("validation.coalescing.requests")
+                .description("Validations evaluated by their own caller")
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("validation.coalescing.requests")
+                .description("Validations answered by an identical one already in flight")
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the result of the identical validation in flight, or evaluates {@code validator}
+     * and shares its result with callers that arrive meanwhile. Exceptions are shared the same way.
+     */
+    public ValidationResult get(CompiledRuleSet ruleSet, Object[] values, int maxErrors,
+                                Supplier<ValidationResult> validator) {
+        ValidationKey key = new ValidationKey(ruleSet, values, maxErrors);
+        CompletableFuture<ValidationResult> pending = inFlight.get(key);
+        if (pending == null) {
+            CompletableFuture<ValidationResult> own = new CompletableFuture<>();
+            pending = inFlight.putIfAbsent(key, own);
+            if (pending == null) {
+                return execute(key, own, validator);
+            }
+        }
+        coalesced.increment();
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private ValidationResult execute(ValidationKey key, CompletableFuture<ValidationResult> own,
+                                     Supplier<ValidationResult> validator) {
+        executed.increment();
+        try {
+            ValidationResult result = validator.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (RuntimeException) cause;
+    }
+
+    /**
+     * Returns the number of validations currently in flight; for tests.
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+}
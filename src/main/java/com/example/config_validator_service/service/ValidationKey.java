@@ -0,0 +1,51 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.rules.CompiledRuleSet;
+
+import java.util.Arrays;
+
+/**
+ * Identifies one validation: the rule set instance, the bound field values and the error limit.
+ * Rule sets compare by identity, so a key never matches across a reload. Limited runs also
+ * depend on the rule set's limited order, which is retuned in place, so their keys include its
+ * generation as well.
+ */
+final class ValidationKey {
+    private final CompiledRuleSet ruleSet;
+    private final int orderGeneration;
+    private final Object[] values;
+    private final int maxErrors;
+    private final int hash;
+
+    ValidationKey(CompiledRuleSet ruleSet, Object[] values, int maxErrors) {
+        this.ruleSet = ruleSet;
+        this.orderGeneration = maxErrors == CompiledRuleSet.ALL_ERRORS ? 0 : ruleSet.getOrderGeneration();
+        this.values = values;
+        this.maxErrors = maxErrors;
+        this.hash = 31 * (31 * (31 * System.identityHashCode(ruleSet) + orderGeneration) + maxErrors)
+                + Arrays.deepHashCode(values);
+    }
+
+    Object[] values() {
+        return values.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValidationKey)) {
+            return false;
+        }
+        ValidationKey other = (ValidationKey) o;
+        return hash == other.hash && ruleSet == other.ruleSet && orderGeneration == other.orderGeneration
+                && maxErrors == other.maxErrors
+                && Arrays.deepEquals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
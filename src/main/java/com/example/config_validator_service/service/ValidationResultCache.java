@@ -0,0 +1,135 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in cache of validation results keyed by the bound field values, for clients that
+ * re-submit the same config over and over. Disabled by default ({@code validation.cache.enabled}).
+ *
+ * <p>Sensitive values, such as the admin password, never enter the cache: their slot in the
+ * key holds a SHA-256 digest salted with a random per-process value instead. Keys also carry
+ * the error limit and the rule set they were computed with, so a result is never served for
+ * another rule set; the cache is cleared on every reload to release the old entries.
+ *
+ * <p>Results are immutable and shared between all callers that hit the same entry.
+ */
+@Component
+public class ValidationResultCache {
+
+    private static final String CACHE_NAME = "validation.results";
+
+    private final boolean enabled;
+    private final Cache<ValidationKey, ValidationResult> cache;
+    private final MessageDigest saltedDigest;
+
+    @Autowired
+    public ValidationResultCache(RuleSetRegistry ruleSets, MeterRegistry meterRegistry,
+                                 @Value("${validation.cache.enabled:false}") boolean enabled,
+                                 @Value("${validation.cache.max-size:10000}") long maxSize,
+                                 @Value("${validation.cache.ttl:10m}") Duration ttl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("validation.cache.max-size must be at least 1");
+        }
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.saltedDigest = newSaltedDigest();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+            Gauge.builder("validation.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .description("Share of validations answered from the result cache")
+                    .register(meterRegistry);
+        }
+        ruleSets.addListener(ruleSet -> cache.invalidateAll());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached result for the values and error limit, computing it with
+     * {@code validator} on a miss.
+     */
+    public ValidationResult get(CompiledRuleSet ruleSet, Object[] values, int maxErrors,
+                                Supplier<ValidationResult> validator) {
+        return cache.get(key(ruleSet, values, maxErrors), k -> validator.get());
+    }
+
+    private ValidationKey key(CompiledRuleSet ruleSet, Object[] values, int maxErrors) {
+        Object[] normalized = values.clone();
+        for (int i = 0; i < normalized.length; i++) {
+            if (normalized[i] != null && ruleSet.isSensitive(i)) {
+                normalized[i] = digest(normalized[i]);
+            }
+        }
+        return new ValidationKey(ruleSet, normalized, maxErrors);
+    }
+
+    private byte[] digest(Object value) {
+        MessageDigest digest = cloneDigest();
+        // The type takes part so that e.g. "5" and 5, which validate differently, stay apart.
+        digest.update(value.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+
+    private MessageDigest cloneDigest() {
+        try {
+            return (MessageDigest) saltedDigest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", e);
+        }
+    }
+
+    private static MessageDigest newSaltedDigest() {
+        byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return digest;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Returns the key values of all current entries; for tests.
+     */
+    List<Object[]> keyValues() {
+        List<Object[]> values = new ArrayList<>();
+        for (ValidationKey key : cache.asMap().keySet()) {
+            values.add(key.values());
+        }
+        return values;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
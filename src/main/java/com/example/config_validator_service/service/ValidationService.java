@@ -1,137 +1,242 @@
 package com.example.config_validator_service.service;
 
+import com.example.config_validator_service.exception.BatchTooLargeException;
+import com.example.config_validator_service.model.BatchValidationResult;
 import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
 import com.example.config_validator_service.model.SchemaDefinition;
 import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleMetrics;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonParser;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 
 @Service
-public class ValidationService {
+public class ValidationService implements DisposableBean {
+
+    static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+    // Below this size the fork/join overhead outweighs the gain from spreading work across cores.
+    private static final int PARALLEL_BATCH_THRESHOLD = 64;
+
+    private final RuleSetRegistry ruleSets;
+    private final RuleMetrics metrics;
+    private final ValidationResultCache cache;
+    private final ValidationCoalescer coalescer;
+    private final int maxBatchSize;
+    // Batches run here rather than in the common pool, so they only compete with each other.
+    private final ForkJoinPool batchPool;
+
+    public ValidationService() {
+        this(new RuleSetRegistry(PasswordPolicy.defaults()), null, null, null);
+    }
+
+    public ValidationService(CompiledRuleSet ruleSet) {
+        this(new RuleSetRegistry(ruleSet), null, null, null);
+    }
+
+    /**
+     * Creates the service; {@code metrics}, {@code cache} and {@code coalescer} may be null to
+     * skip instrumentation, caching and coalescing.
+     */
+    public ValidationService(RuleSetRegistry ruleSets, RuleMetrics metrics, ValidationResultCache cache,
+                             ValidationCoalescer coalescer) {
+        this(ruleSets, metrics, cache, coalescer, DEFAULT_MAX_BATCH_SIZE, 0);
+    }
 
-    private static final String ENV_DEV = "dev";
-    private static final String ENV_TEST = "test";
-    private static final String ENV_PROD = "prod";
+    /**
+     * Creates the service like {@link #ValidationService(RuleSetRegistry, RuleMetrics,
+     * ValidationResultCache, ValidationCoalescer)}, accepting batches of up to
+     * {@code maxBatchSize} configs and validating large ones on {@code batchParallelism} threads,
+     * or one per processor if 0.
+     */
+    @Autowired
+    public ValidationService(RuleSetRegistry ruleSets, RuleMetrics metrics, ValidationResultCache cache,
+                             ValidationCoalescer coalescer,
+                             @Value("${validation.batch.max-size:1000}") int maxBatchSize,
+                             @Value("${validation.batch.parallelism:0}") int batchParallelism) {
+        if (maxBatchSize < 1 || batchParallelism < 0) {
+            throw new IllegalArgumentException("validation.batch.max-size must be positive and "
+                    + "validation.batch.parallelism must not be negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.batchPool = new ForkJoinPool(
+                batchParallelism > 0 ? batchParallelism : Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("batch-validation-" + thread.getPoolIndex());
+                    return thread;
+                }, null, false);
+        this.ruleSets = ruleSets;
+        this.metrics = metrics;
+        this.cache = cache != null && cache.isEnabled() ? cache : null;
+        // Cache misses are already computed once per key, so coalescing only pays off without it.
+        this.coalescer = this.cache == null && coalescer != null && coalescer.isEnabled() ? coalescer : null;
+    }
 
     public ValidationResult validate(ConfigRequest request) {
-        List<String> errors = new ArrayList<>();
+        return validate(ruleSets.current(), request, CompiledRuleSet.ALL_ERRORS);
+    }
 
-        // 1. Validate 'environment'
-        if (request.getEnvironment() == null) {
-            errors.add("Field 'environment' is required.");
-        } else {
-            String env = request.getEnvironment();
-            if (!env.equals(ENV_DEV) && !env.equals(ENV_TEST) && !env.equals(ENV_PROD)) {
-                errors.add("Field 'environment' must be one of: dev, test, prod.");
-            }
+    /**
+     * Validates the request, reporting at most {@code maxErrors} violations. Use 1 for a
+     * fail-fast pass/fail answer; see {@link CompiledRuleSet#validate(Object[], int)}.
+     */
+    public ValidationResult validate(ConfigRequest request, int maxErrors) {
+        return validate(ruleSets.current(), request, maxErrors);
+    }
+
+    /**
+     * Validates a JSON document of any shape and size against the active rule set, reading only
+     * the values the rules address; see {@link CompiledRuleSet#bind(JsonParser)}. The parser
+     * must be positioned before the document root; a YAML parser works the same way.
+     *
+     * @return the result, or null if the document is not a single JSON object
+     */
+    public ValidationResult validateDocument(JsonParser document, int maxErrors) {
+        CompiledRuleSet ruleSet = ruleSets.current();
+        Object[] values = ruleSet.bind(document);
+        return values != null ? validate(ruleSet, values, maxErrors) : null;
+    }
+
+    /**
+     * Validates a TOML document like {@link #validateDocument(JsonParser, int)}; see
+     * {@link CompiledRuleSet#bindToml(Reader)}.
+     */
+    public ValidationResult validateToml(Reader document, int maxErrors) throws IOException {
+        CompiledRuleSet ruleSet = ruleSets.current();
+        return validate(ruleSet, ruleSet.bindToml(document), maxErrors);
+    }
+
+    /**
+     * Validates a {@code .properties} document like {@link #validateDocument(JsonParser, int)};
+     * see {@link CompiledRuleSet#bindProperties(Reader)}.
+     */
+    public ValidationResult validateProperties(Reader document, int maxErrors) throws IOException {
+        CompiledRuleSet ruleSet = ruleSets.current();
+        return validate(ruleSet, ruleSet.bindProperties(document), maxErrors);
+    }
+
+    private ValidationResult validate(CompiledRuleSet ruleSet, ConfigRequest request, int maxErrors) {
+        return validate(ruleSet, ruleSet.bind(request), maxErrors);
+    }
+
+    private ValidationResult validate(CompiledRuleSet ruleSet, Object[] values, int maxErrors) {
+        if (cache != null) {
+            return cache.get(ruleSet, values, maxErrors, () -> evaluate(ruleSet, values, maxErrors));
         }
+        if (coalescer != null) {
+            return coalescer.get(ruleSet, values, maxErrors, () -> evaluate(ruleSet, values, maxErrors));
+        }
+        return evaluate(ruleSet, values, maxErrors);
+    }
 
-        // 2. Validate 'debug'
-        if (request.getDebug() == null) {
-            // Optional defaults could be handled, but req says "Required fields must be present" (conceptually).
-            // Let's assume nullable per field unless specified. 
-            // "Required fields must be present" -> implies strictness.
-            errors.add("Field 'debug' is required.");
-        } else {
-             if (request.getEnvironment() != null && request.getEnvironment().equals(ENV_PROD) && request.getDebug()) {
-                 errors.add("Debug mode must not be enabled in production.");
-             }
+    private ValidationResult evaluate(CompiledRuleSet ruleSet, Object[] values, int maxErrors) {
+        if (metrics == null) {
+            return ruleSet.validate(values, maxErrors);
         }
+        return metrics.validate(ruleSet, values, maxErrors);
+    }
 
-        // 3. Validate 'maxConnections' (environment-based)
-        if (request.getMaxConnections() == null) {
-            errors.add("Field 'maxConnections' is required.");
+    /**
+     * Validates each config of the batch, in input order. Batches of at least
+     * {@value #PARALLEL_BATCH_THRESHOLD} configs are split across the batch pool.
+     *
+     * @throws BatchTooLargeException if the batch holds more than the configured maximum
+     */
+    public BatchValidationResult validateAll(List<ConfigRequest> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new BatchTooLargeException(requests.size(), maxBatchSize);
+        }
+        // One snapshot for the whole batch, so a concurrent reload cannot split it across versions.
+        CompiledRuleSet ruleSet = ruleSets.current();
+        ValidationResult[] results = new ValidationResult[requests.size()];
+        BatchTask batch = new BatchTask(ruleSet, requests, results, 0, results.length);
+        if (results.length >= PARALLEL_BATCH_THRESHOLD) {
+            batchPool.invoke(batch);
         } else {
-            Integer maxConn = request.getMaxConnections();
-            String env = request.getEnvironment();
-
-            if (env == null) {
-                errors.add("Field 'environment' must be set before validating maxConnections.");
-            } else {
-                int min = 1;
-                int maxAllowed;
-
-                switch (env) {
-                    case ENV_DEV:
-                        maxAllowed = 100;
-                        break;
-                    case ENV_TEST:
-                        maxAllowed = 500;
-                        break;
-                    case ENV_PROD:
-                        maxAllowed = 2000;
-                        break;
-                    default:
-                        maxAllowed = 1000; // fallback safety
-                }
+            batch.compute();
+        }
 
-                if (maxConn < min || maxConn > maxAllowed) {
-                    errors.add(String.format(
-                        "Field 'maxConnections' must be between %d and %d for environment '%s'.",
-                        min, maxAllowed, env
-                    ));
-                }
+        int passed = 0;
+        for (ValidationResult result : results) {
+            if ("PASS".equals(result.getStatus())) {
+                passed++;
             }
         }
+        int failed = results.length - passed;
+        BatchValidationResult.Summary summary =
+                new BatchValidationResult.Summary(results.length, passed, failed);
+        return new BatchValidationResult(failed == 0 ? "PASS" : "FAIL", summary, Arrays.asList(results));
+    }
 
-
-        // 4. Validate 'adminPassword'
-        if (request.getAdminPassword() == null) {
-            errors.add("Field 'adminPassword' is required.");
-        } else {
-            if (!isValidPassword(request.getAdminPassword())) {
-                errors.add("Field 'adminPassword' must be at least 8 characters long and contain mixed case, numbers, and special characters.");
-            }
+    private ValidationResult validateEntry(CompiledRuleSet ruleSet, ConfigRequest request) {
+        if (request == null) {
+            return ValidationResult.failure(ErrorCode.NULL_ENTRY, "Config entry must not be null.");
         }
+        return validate(ruleSet, request, CompiledRuleSet.ALL_ERRORS);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
 
-        String status = errors.isEmpty() ? "PASS" : "FAIL";
-        return new ValidationResult(status, errors);
+    @Override
+    public void destroy() {
+        batchPool.shutdownNow();
     }
 
-    private boolean isValidPassword(String password) {
-        if (password.length() < 8) return false;
-        // Mixed case
-        if (!Pattern.compile("[a-z]").matcher(password).find()) return false;
-        if (!Pattern.compile("[A-Z]").matcher(password).find()) return false;
-        // Numbers
-        if (!Pattern.compile("[0-9]").matcher(password).find()) return false;
-        // Special chars
-        if (!Pattern.compile("[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]").matcher(password).find()) return false;
-        return true;
+    /**
+     * Validates {@code requests[from, to)} into {@code results}, halving the range until it is
+     * below the parallel threshold.
+     */
+    private final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CompiledRuleSet ruleSet;
+        private final List<ConfigRequest> requests;
+        private final ValidationResult[] results;
+        private final int from;
+        private final int to;
+
+        BatchTask(CompiledRuleSet ruleSet, List<ConfigRequest> requests, ValidationResult[] results,
+                  int from, int to) {
+            this.ruleSet = ruleSet;
+            this.requests = requests;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_BATCH_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = validateEntry(ruleSet, requests.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BatchTask(ruleSet, requests, results, from, middle),
+                    new BatchTask(ruleSet, requests, results, middle, to));
+        }
     }
 
+    /**
+     * Returns the schema generated from the active rule set; it is immutable.
+     */
     public SchemaDefinition getSchema() {
-        Map<String, SchemaDefinition.FieldDefinition> fields = new HashMap<>();
-        
-        fields.put("environment", new SchemaDefinition.FieldDefinition(
-                "String", 
-                "Execution environment identifier", 
-                "One of: dev, test, prod"
-        ));
-        
-        fields.put("debug", new SchemaDefinition.FieldDefinition(
-                "Boolean",
-                "Debug mode flag",
-                "Must be false if environment is prod"
-        ));
-        
-        fields.put("maxConnections", new SchemaDefinition.FieldDefinition(
-                "Integer",
-                "Allowed connection limit",
-                "1-100 in dev, 1-500 in test, 1-2000 in prod"
-        ));
-        
-        fields.put("adminPassword", new SchemaDefinition.FieldDefinition(
-                "String",
-                "Sensitive credential field",
-                "Min length 8, mixed case, numbers, special characters"
-        ));
-
-        return new SchemaDefinition(fields);
+        return ruleSets.current().getSchema();
     }
 }
@@ -0,0 +1,135 @@
+package com.example.config_validator_service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigValidatorCliTest {
+
+    private static final String VALID_JSON =
+            "{\"environment\":\"dev\",\"debug\":true,\"maxConnections\":50,\"adminPassword\":\"SecureP@ssw0rd\"}";
+
+    private final JsonMapper mapper = new JsonMapper();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @TempDir
+    Path root;
+
+    @Test
+    void run_shouldValidateEveryFileBelowTheDirectories() throws IOException {
+        write("a.json", VALID_JSON);
+        write("services/b.yaml", "environment: prod\ndebug: true\nmaxConnections: 50\nadminPassword: SecureP@ssw0rd\n");
+        write("services/c.toml", "environment = \"dev\"\ndebug = false\nmaxConnections = 50\n"
+                + "adminPassword = \"SecureP@ssw0rd\"\n");
+        write("services/deep/d.properties", "environment=dev\ndebug=false\nmaxConnections=50\n"
+                + "adminPassword=SecureP@ssw0rd\n");
+        write("services/deep/broken.json", "{\"environment\": dev}");
+        write("services/deep/list.yml", "- a\n- b\n");
+        write("README.txt", "not a config");
+        // Large enough to be memory-mapped.
+        write("big.json", VALID_JSON.replace("}", ",\"padding\":\"" + "x".repeat(100_000) + "\"}"));
+        for (int i = 0; i < 40; i++) {
+            write("many/" + i + ".json", VALID_JSON);
+        }
+
+        List<JsonNode> lines = run(ConfigValidatorCli.EXIT_FAIL, root.toString());
+        Map<String, JsonNode> byFile = new HashMap<>();
+        for (JsonNode line : lines.subList(0, lines.size() - 1)) {
+            assertTrue(line.isObject());
+            byFile.put(root.relativize(Path.of(line.get("file").asString())).toString(), line);
+        }
+
+        assertEquals(47, byFile.size());
+        assertEquals("PASS", byFile.get("a.json").get("status").asString());
+        assertEquals("PASS", byFile.get("big.json").get("status").asString());
+        assertEquals("PASS", byFile.get("many/39.json").get("status").asString());
+        assertEquals("PASS", byFile.get("services/c.toml").get("status").asString());
+        assertEquals("PASS", byFile.get("services/deep/d.properties").get("status").asString());
+        JsonNode yaml = byFile.get("services/b.yaml");
+        assertEquals("yaml", yaml.get("format").asString());
+        assertEquals("FORBIDDEN_VALUE", yaml.get("violations").get(0).get("code").asString());
+        assertTrue(byFile.get("services/deep/broken.json").get("errors").get(0).asString().startsWith("Invalid json: "));
+        assertEquals("Invalid yaml: document must be a single object.",
+                byFile.get("services/deep/list.yml").get("errors").get(0).asString());
+
+        JsonNode summary = lines.get(lines.size() - 1).get("summary");
+        assertEquals(47, summary.get("files").asLong());
+        assertEquals(44, summary.get("passed").asLong());
+        assertEquals(3, summary.get("failed").asLong());
+        assertEquals(1, summary.get("skipped").asLong());
+        assertTrue(err.toString(StandardCharsets.UTF_8)
+                .startsWith("47 files: 44 passed, 3 failed, 1 skipped, 0 directory errors"));
+    }
+
+    @Test
+    void run_shouldReportAFileThatCannotBeValidated_andGoOn() throws IOException {
+        write("a.json", VALID_JSON);
+        // Sparse, so it takes no space; too large for a single mapping.
+        try (RandomAccessFile huge = new RandomAccessFile(root.resolve("huge.json").toFile(), "rw")) {
+            huge.setLength(3L << 30);
+        }
+
+        List<JsonNode> lines = run(ConfigValidatorCli.EXIT_FAIL, root.toString());
+
+        assertEquals(3, lines.size());
+        JsonNode huge = lines.stream().filter(line -> line.has("file")
+                && line.get("file").asString().endsWith("huge.json")).findFirst().orElseThrow();
+        assertEquals("INTERNAL_ERROR", huge.get("violations").get(0).get("code").asString());
+        assertTrue(huge.get("errors").get(0).asString().startsWith("Could not validate file: "));
+        JsonNode summary = lines.get(2).get("summary");
+        assertEquals(2, summary.get("files").asLong());
+        assertEquals(1, summary.get("passed").asLong());
+        assertEquals(0, summary.get("directoryErrors").asLong());
+    }
+
+    @Test
+    void run_shouldExitZeroWhenEveryFilePasses() throws IOException {
+        write("a.json", VALID_JSON);
+        write("b.json", VALID_JSON);
+
+        List<JsonNode> lines = run(ConfigValidatorCli.EXIT_PASS, "--fail-fast", "--threads", "2",
+                root.resolve("a.json").toString(), root.resolve("b.json").toString());
+
+        assertEquals(3, lines.size());
+        assertEquals(2, lines.get(2).get("summary").get("threads").asInt());
+    }
+
+    @Test
+    void run_shouldRejectInvalidArguments() {
+        for (String[] args : new String[][] {{}, {"--threads", "0", "."}, {"--max-errors"}, {"--verbose", "."},
+                {root.resolve("missing").toString()}}) {
+            err.reset();
+            assertEquals(ConfigValidatorCli.EXIT_ERROR,
+                    ConfigValidatorCli.run(args, new ByteArrayOutputStream(), new PrintStream(err, true)));
+            assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage: validate"), List.of(args).toString());
+        }
+    }
+
+    private List<JsonNode> run(int expectedExitCode, String... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(expectedExitCode, ConfigValidatorCli.run(args, out, new PrintStream(err, true)));
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        lines.forEach(line -> assertTrue(line.startsWith("{\""), line));
+        return lines.stream().map(mapper::readTree).toList();
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path file = root.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -1,13 +1,46 @@
 package com.example.config_validator_service;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
 
-@SpringBootTest
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"validation.warmup.enabled=true", "validation.warmup.iterations=100"})
 class ConfigValidatorServiceApplicationTests {
 
+	@Autowired
+	private ApplicationAvailability availability;
+
+	@Autowired
+	private ReadinessEvents readinessEvents;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void readiness_shouldRefuseTrafficUntilWarmUpHasRun() {
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), readinessEvents.states);
+		assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class ReadinessEvents {
+
+		final List<ReadinessState> states = new CopyOnWriteArrayList<>();
+
+		@EventListener
+		void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+			states.add(event.getState());
+		}
+	}
 }
@@ -0,0 +1,32 @@
+package com.example.config_validator_service.config;
+
+import com.example.config_validator_service.controller.ValidationJsonConverter;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import com.example.config_validator_service.service.PasswordPolicy;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JitWarmUpTest {
+
+    private final RuleSetRegistry ruleSets = new RuleSetRegistry(PasswordPolicy.defaults());
+
+    @Test
+    void warmUp_shouldStop_whenIterationsReached() {
+        JitWarmUp warmUp = new JitWarmUp(ruleSets, new ValidationJsonConverter(JsonMapper.builder().build()), event -> { },
+                true, 50, Duration.ofMinutes(1));
+
+        assertEquals(50, warmUp.warmUp());
+    }
+
+    @Test
+    void warmUp_shouldStop_whenTimeBudgetSpent() {
+        JitWarmUp warmUp = new JitWarmUp(ruleSets, new ValidationJsonConverter(JsonMapper.builder().build()), event -> { },
+                true, Integer.MAX_VALUE, Duration.ZERO);
+
+        assertEquals(0, warmUp.warmUp());
+    }
+}
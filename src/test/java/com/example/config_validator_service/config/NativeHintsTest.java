@@ -0,0 +1,36 @@
+package com.example.config_validator_service.config;
+
+import com.example.config_validator_service.cli.BulkValidator;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+import com.example.config_validator_service.rules.RuleSetDefinition;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeHintsTest {
+
+    @Test
+    void registerHints_shouldCoverModelsBoundOutsideControllers() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ConfigRequest.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(SchemaDefinition.FieldDefinition.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RuleSetDefinition.ForbiddenValue.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethodInvocation(BulkValidator.Summary.class.getMethod("getFilesPerSecond")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethodInvocation(ConfigRequest.class.getMethod("setAdminPassword", String.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Violation.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ValidationResult.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+    }
+}
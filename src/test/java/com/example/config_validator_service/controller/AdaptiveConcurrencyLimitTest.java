@@ -0,0 +1,79 @@
+package com.example.config_validator_service.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void tryAcquire_shouldRejectAboveLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        limit.releaseWithoutSample();
+        assertTrue(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void release_shouldGrowLimit_whileBusyAndLatencySteady() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 100);
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limit, 5 * MILLI);
+        }
+
+        assertEquals(100, limit.getLimit());
+    }
+
+    @Test
+    void release_shouldShrinkLimit_whenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 4, 100);
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limit, 5 * MILLI);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limit, 50 * MILLI);
+        }
+
+        assertTrue(limit.getLimit() < before / 2, () -> before + " -> " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    void release_shouldKeepLimit_whenMostlyIdle() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(5 * MILLI);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void constructor_shouldRejectInconsistentBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 0, 100));
+    }
+
+    // Fills every slot, then releases them all with the same latency.
+    private static void saturateAndRelease(AdaptiveConcurrencyLimit limit, long latencyNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(latencyNanos);
+        }
+    }
+}
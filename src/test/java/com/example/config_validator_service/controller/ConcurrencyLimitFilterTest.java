@@ -0,0 +1,88 @@
+package com.example.config_validator_service.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limit, meterRegistry,
+            JsonMapper.builder().build(), true, Duration.ofMillis(1500));
+
+    @Test
+    void doFilter_shouldShedWith503AndRetryAfter_whenLimitReached() throws Exception {
+        assertTrue(limit.tryAcquire());
+
+        MockHttpServletResponse response = run("/validate-config");
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"code\":\"OVERLOADED\""));
+        assertEquals(1, meterRegistry.get("validation.requests.shed").counter().count());
+    }
+
+    @Test
+    void doFilter_shouldPassHealthAndSchema_whenLimitReached() throws Exception {
+        assertTrue(limit.tryAcquire());
+
+        for (String path : new String[] {"/health", "/actuator/health/readiness", "/schema", "/validate-configx"}) {
+            assertEquals(200, run(path).getStatus(), path);
+        }
+        assertEquals(0, meterRegistry.get("validation.requests.shed").counter().count());
+    }
+
+    @Test
+    void doFilter_shouldReleaseSlot_afterRequest() throws Exception {
+        assertEquals(200, run("/validate-config/batch").getStatus());
+        assertEquals(200, run("/validate-config/stream").getStatus());
+
+        assertEquals(0, limit.getInFlight());
+        assertEquals(1, meterRegistry.get("validation.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void doFilter_shouldOnlySampleLatency_ofSingleConfigs() throws Exception {
+        List<String> sampled = new ArrayList<>();
+        String[] current = new String[1];
+        AdaptiveConcurrencyLimit recording = new AdaptiveConcurrencyLimit(10, 1, 10) {
+            @Override
+            void release(long latencyNanos) {
+                sampled.add(current[0]);
+                super.release(latencyNanos);
+            }
+        };
+        ConcurrencyLimitFilter recordingFilter = new ConcurrencyLimitFilter(recording, new SimpleMeterRegistry(),
+                JsonMapper.builder().build(), true, Duration.ofSeconds(1));
+
+        for (String path : new String[] {"/validate-config", "/validate-config/batch", "/validate-config/stream",
+            "/validate-document", "/validate-document/baseline"}) {
+            current[0] = path;
+            assertEquals(200, run(recordingFilter, path).getStatus(), path);
+        }
+
+        assertEquals(List.of("/validate-config"), sampled);
+        assertEquals(0, recording.getInFlight());
+    }
+
+    private MockHttpServletResponse run(String path) throws Exception {
+        return run(filter, path);
+    }
+
+    private static MockHttpServletResponse run(ConcurrencyLimitFilter filter, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.config_validator_service.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ValidationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void messageConverters_shouldPreferValidationJsonConverter() {
+        List<Class<?>> types = handlerAdapter.getMessageConverters().stream()
+                .<Class<?>>map(Object::getClass).toList();
+
+        assertTrue(types.indexOf(ValidationJsonConverter.class) >= 0);
+        assertTrue(types.indexOf(ValidationJsonConverter.class) < types.indexOf(JacksonJsonHttpMessageConverter.class));
+    }
+
+    @Test
+    void validateConfig_shouldReturnMessagesAndCodes_whenInvalid() throws Exception {
+        mockMvc.perform(post("/validate-config")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"environment\":\"prod\",\"debug\":true,\"maxConnections\":1500,"
+                                + "\"adminPassword\":\"SecureP@ssw0rd\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAIL"))
+                .andExpect(jsonPath("$.errors[0]").value("Debug mode must not be enabled in production."))
+                .andExpect(jsonPath("$.violations[0].code").value("FORBIDDEN_VALUE"))
+                .andExpect(jsonPath("$.violations[0].field").value("debug"))
+                .andExpect(jsonPath("$.violations[0].message").doesNotExist());
+    }
+
+    @Test
+    void validateConfig_shouldLimitErrors_whenRequested() throws Exception {
+        String body = "{\"environment\":\"qa\",\"debug\":true,\"maxConnections\":5000,"
+                + "\"adminPassword\":\"weak\"}";
+
+        mockMvc.perform(post("/validate-config").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(jsonPath("$.errors.length()").value(3));
+        mockMvc.perform(post("/validate-config").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(ValidationController.FAIL_FAST_HEADER, "true"))
+                .andExpect(jsonPath("$.status").value("FAIL"))
+                .andExpect(jsonPath("$.errors.length()").value(1));
+        mockMvc.perform(post("/validate-config?maxErrors=2").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(ValidationController.MAX_ERRORS_HEADER, "1"))
+                .andExpect(jsonPath("$.errors.length()").value(2));
+        mockMvc.perform(post("/validate-config?maxErrors=0").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("maxErrors must be at least 1."))
+                .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+        mockMvc.perform(post("/validate-config?maxErrors=many").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("FAIL"));
+        mockMvc.perform(post("/validate-document").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(ValidationController.MAX_ERRORS_HEADER, "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+        mockMvc.perform(post("/validate-document").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(ValidationController.FAIL_FAST_HEADER, "maybe"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(
+                        "Invalid value for parameter '" + ValidationController.FAIL_FAST_HEADER + "': maybe"));
+        mockMvc.perform(post("/validate-config").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .queryParam("maxErrors", "9".repeat(10_000)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(
+                        "Invalid value for parameter 'maxErrors': " + "9".repeat(200) + "..."));
+    }
+
+    @Test
+    void validateConfigBatch_shouldRejectBatchesOverTheMaximumSize() throws Exception {
+        String batch = "[" + String.join(",", Collections.nCopies(1001, "null")) + "]";
+
+        mockMvc.perform(post("/validate-config/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.errors[0]").value("Batch of 1001 configs exceeds the limit of 1000."))
+                .andExpect(jsonPath("$.violations[0].code").value("BATCH_TOO_LARGE"));
+        mockMvc.perform(post("/validate-config/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(batch.replaceFirst("null,", "")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary.total").value(1000));
+    }
+
+    @Test
+    void validateConfig_shouldRejectMalformedBodies_withFixedMessagePerReason() throws Exception {
+        double syntaxBefore = malformedCount("syntax");
+
+        mockMvc.perform(post("/validate-config").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"environment\": \"prod\", <garbage that never ends up in the response>"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(
+                        "Malformed request or invalid data types: request body is not well-formed."))
+                .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+        mockMvc.perform(post("/validate-config").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxConnections\":\"many\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(
+                        "Malformed request or invalid data types: a field has the wrong type."))
+                .andExpect(jsonPath("$.violations[0].field").value("maxConnections"));
+        mockMvc.perform(post("/validate-config").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(
+                        "Malformed request or invalid data types: request body is missing."));
+
+        assertEquals(syntaxBefore + 1, malformedCount("syntax"));
+        assertTrue(malformedCount("type_mismatch") >= 1);
+        assertTrue(malformedCount("empty_body") >= 1);
+    }
+
+    @Test
+    void validateDocument_shouldValidateAddressedFields_andReportJsonPointers() throws Exception {
+        String document = "{\"environment\":\"prod\",\"debug\":true,\"maxConnections\":50,"
+                + "\"adminPassword\":\"SecureP@ssw0rd\",\"db\":{\"pool\":{\"size\":[1,2,3]}}}";
+
+        mockMvc.perform(post("/validate-document").contentType(MediaType.APPLICATION_JSON).content(document))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAIL"))
+                .andExpect(jsonPath("$.violations.length()").value(1))
+                .andExpect(jsonPath("$.violations[0].field").value("debug"))
+                .andExpect(jsonPath("$.violations[0].path").value("/debug"));
+        mockMvc.perform(post("/validate-document").contentType(MediaType.APPLICATION_JSON).content("[1]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(
+                        "Malformed request or invalid data types: request body must be an object."));
+        mockMvc.perform(post("/validate-document").contentType(MediaType.APPLICATION_JSON).content("{\"a\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+    }
+
+    @Test
+    void validateDocument_shouldReadYamlTomlAndProperties_byContentType() throws Exception {
+        String yaml = "environment: prod\ndebug: true\nmaxConnections: 50\nadminPassword: SecureP@ssw0rd\n"
+                + "db:\n  pool:\n    size: [1, 2, 3]\n";
+        String toml = "environment = \"prod\"\ndebug = true\nmaxConnections = 50\n"
+                + "adminPassword = 'SecureP@ssw0rd'\n[db.pool]\nsize = [1, 2, 3]\n";
+        String properties = "environment=prod\ndebug=true\nmaxConnections=50\nadminPassword=SecureP@ssw0rd\n"
+                + "db.pool.size=3\n";
+
+        for (String[] document : new String[][] {{"application/yaml", yaml}, {"application/x-yaml", yaml},
+                {ValidationController.APPLICATION_TOML_VALUE, toml},
+                {ValidationController.TEXT_PROPERTIES_VALUE + ";charset=UTF-8", properties}}) {
+            mockMvc.perform(post("/validate-document").contentType(document[0]).content(document[1]))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.violations.length()").value(1))
+                    .andExpect(jsonPath("$.violations[0].path").value("/debug"));
+        }
+        mockMvc.perform(post("/validate-document").contentType(ValidationController.TEXT_PROPERTIES_VALUE)
+                        .content("environment=prod\nmaxConnections=lots\n"))
+                .andExpect(jsonPath("$.errors").value(hasItem(
+                        "Field 'maxConnections' must be of type Integer.")));
+        mockMvc.perform(post("/validate-document").contentType(ValidationController.APPLICATION_TOML_VALUE)
+                        .content("environment = \"prod"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+        mockMvc.perform(post("/validate-document").contentType("application/yaml").content("- environment: prod"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/validate-document").contentType(MediaType.TEXT_PLAIN).content("environment=prod"))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(header().string(HttpHeaders.ACCEPT, containsString("application/toml")));
+    }
+
+    @Test
+    void validateDocument_shouldRejectSyntaxErrors_withAFormatNeutralMessage() throws Exception {
+        for (String[] document : new String[][] {
+                {ValidationController.APPLICATION_TOML_VALUE, "environment = \"prod\"\n[db.pool\nsize = 1\n"},
+                {ValidationController.TEXT_PROPERTIES_VALUE, "adminPassword=\\u12\n"},
+                {"application/yaml", "environment: [prod\n"},
+                {MediaType.APPLICATION_JSON_VALUE, "{\"environment\": prod}"}}) {
+            mockMvc.perform(post("/validate-document").contentType(document[0]).content(document[1]))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors[0]").value(
+                            "Malformed request or invalid data types: request body is not well-formed."))
+                    .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+        }
+    }
+
+    @Test
+    void validatePatch_shouldRevalidateTheBaselineWithThePatchApplied() throws Exception {
+        String fingerprint = mockMvc.perform(post("/validate-document/baseline").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"environment\":\"dev\",\"debug\":true,\"maxConnections\":50,"
+                                + "\"adminPassword\":\"SecureP@ssw0rd\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PASS"))
+                .andReturn().getResponse().getHeader(ValidationController.FINGERPRINT_HEADER);
+        assertNotNull(fingerprint);
+
+        String patched = mockMvc.perform(patch("/validate-document/baseline/" + fingerprint)
+                        .contentType(ValidationController.APPLICATION_JSON_PATCH_VALUE)
+                        .content("[{\"op\":\"replace\",\"path\":\"/environment\",\"value\":\"prod\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.violations.length()").value(1))
+                .andExpect(jsonPath("$.violations[0].code").value("FORBIDDEN_VALUE"))
+                .andReturn().getResponse().getHeader(ValidationController.FINGERPRINT_HEADER);
+        assertNotEquals(fingerprint, patched);
+
+        mockMvc.perform(patch("/validate-document/baseline/" + fingerprint)
+                        .contentType(ValidationController.APPLICATION_JSON_PATCH_VALUE)
+                        .content("[{\"op\":\"copy\",\"from\":\"/debug\",\"path\":\"/x\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.violations[0].code").value("MALFORMED_REQUEST"));
+        mockMvc.perform(patch("/validate-document/baseline/unknown")
+                        .contentType(ValidationController.APPLICATION_JSON_PATCH_VALUE).content("[]"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.violations[0].code").value("BASELINE_NOT_FOUND"));
+    }
+
+    private double malformedCount(String reason) {
+        return meterRegistry.get("validation.requests.malformed").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void readiness_shouldBeUp_afterWarmUp() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void ruleOrder_shouldListRulesInFailFastOrder() throws Exception {
+        mockMvc.perform(get("/actuator/ruleorder"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tuning").value(true))
+                .andExpect(jsonPath("$.rules[0].rule").value("required"))
+                .andExpect(jsonPath("$.rules[?(@.rule == 'rangeBy')].dependsOn[0]").value("environment"));
+    }
+
+    @Test
+    void getSchema_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        MvcResult first = mockMvc.perform(get("/schema"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(jsonPath("$.fields.environment.type").value("String"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/schema").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getSchema_shouldServeGzip_whenAccepted() throws Exception {
+        byte[] plain = mockMvc.perform(get("/schema"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        MvcResult gzip = mockMvc.perform(get("/schema").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(plain, in.readAllBytes());
+        }
+
+        mockMvc.perform(get("/schema").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+}
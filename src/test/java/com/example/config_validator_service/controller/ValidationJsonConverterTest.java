@@ -0,0 +1,128 @@
+package com.example.config_validator_service.controller;
+
+import com.example.config_validator_service.exception.MalformedRequestException;
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.ValidationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationJsonConverterTest {
+
+    // Same settings Spring Boot applies to its mapper.
+    private final JsonMapper jsonMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ValidationJsonConverter converter = new ValidationJsonConverter(jsonMapper);
+    private final JacksonJsonHttpMessageConverter jackson = new JacksonJsonHttpMessageConverter(jsonMapper);
+
+    @Test
+    void read_shouldMatchJackson_forPlainAndCoercedBodies() throws Exception {
+        String[] bodies = {
+            "{\"environment\":\"prod\",\"debug\":false,\"maxConnections\":1500,\"adminPassword\":\"S3cure!pw\"}",
+            "{\"environment\":null,\"maxConnections\":null,\"extra\":{\"nested\":[1,2]}}",
+            "{\"environment\":\"dev\",\"environment\":\"test\"}",
+            "{\"debug\":\"true\",\"maxConnections\":\"42\",\"environment\":7}",
+            "{\"maxConnections\":12.0}",
+            "{}",
+        };
+        for (String body : bodies) {
+            assertEquals(jackson.read(ConfigRequest.class, input(body)),
+                    converter.read(ConfigRequest.class, input(body)), body);
+        }
+        assertNotNull(converter.decode(bytes(bodies[0])));
+        assertNull(converter.decode(bytes(bodies[3])), "coercions go through databinding");
+    }
+
+    @Test
+    void read_shouldFailLikeJackson_whenWrongType() {
+        String[] bodies = {"{\"maxConnections\":\"many\"}", "[1]", "{\"maxConnections\":99999999999}",
+                "{\"environment\":\"prod\"} trailing"};
+        for (String body : bodies) {
+            HttpMessageNotReadableException expected = assertThrows(HttpMessageNotReadableException.class,
+                    () -> jackson.read(ConfigRequest.class, input(body)));
+            HttpMessageNotReadableException actual = assertThrows(HttpMessageNotReadableException.class,
+                    () -> converter.read(ConfigRequest.class, input(body)));
+            assertEquals(expected.getMessage(), actual.getMessage(), body);
+        }
+    }
+
+    @Test
+    void read_shouldRejectWithoutStackTrace_whenEmptyOrSyntaxError() {
+        MalformedRequestException empty = assertThrows(MalformedRequestException.class,
+                () -> converter.read(ConfigRequest.class, input("")));
+        MalformedRequestException truncated = assertThrows(MalformedRequestException.class,
+                () -> converter.read(ConfigRequest.class, input("{\"environment\": \"prod\"")));
+        MalformedRequestException unquoted = assertThrows(MalformedRequestException.class,
+                () -> converter.read(ConfigRequest.class, input("{\"environment\": dev}")));
+
+        assertEquals(MalformedRequestException.Reason.EMPTY_BODY, empty.getReason());
+        assertEquals(MalformedRequestException.Reason.SYNTAX, truncated.getReason());
+        assertEquals(MalformedRequestException.Reason.SYNTAX, unquoted.getReason());
+        assertEquals(0, truncated.getStackTrace().length);
+    }
+
+    @Test
+    void isTruncatedOrNotJson_shouldOnlyFlagBodiesThatCannotBeJson() {
+        String[] malformed = {"{\"environment\": \"prod\"", "{\"extra\":[1,}", "<html></html>",
+                "environment=prod&debug=true", "{\"a\":\"unterminated}", "\ufeff {\"a\":[{}]"};
+        String[] plausible = {"{\"a\":\"}\\\"{\"}", "  [1, {\"b\": []}]", "{} trailing", "null", "-1", "\"x\"",
+                "{\"environment\": dev}", "", "\ufeff{}"};
+        for (String body : malformed) {
+            assertTrue(ValidationJsonConverter.isTruncatedOrNotJson(bytes(body)), body);
+        }
+        for (String body : plausible) {
+            assertFalse(ValidationJsonConverter.isTruncatedOrNotJson(bytes(body)), body);
+        }
+    }
+
+    @Test
+    void write_shouldProduceSameBytesAsJackson() throws Exception {
+        ValidationService validationService = new ValidationService();
+        ValidationResult[] results = {
+            validationService.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd")),
+            validationService.validate(new ConfigRequest("qa\"\n", true, 5000, "weak")),
+            validationService.validate(new ConfigRequest()),
+            ValidationResult.failure(ErrorCode.MALFORMED_REQUEST, "Bad é input"),
+        };
+        for (ValidationResult result : results) {
+            MockHttpOutputMessage expected = new MockHttpOutputMessage();
+            jackson.write(result, MediaType.APPLICATION_JSON, expected);
+            MockHttpOutputMessage actual = new MockHttpOutputMessage();
+            converter.write(result, MediaType.APPLICATION_JSON, actual);
+
+            assertEquals(expected.getBodyAsString(StandardCharsets.UTF_8),
+                    actual.getBodyAsString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void canReadAndWrite_shouldOnlyClaimItsTwoTypes() {
+        assertTrue(converter.canRead(ConfigRequest.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(ValidationResult.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(ValidationResult.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ConfigRequest.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(ConfigRequest.class, MediaType.APPLICATION_XML));
+    }
+
+    private static MockHttpInputMessage input(String body) {
+        MockHttpInputMessage message = new MockHttpInputMessage(bytes(body));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return message;
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
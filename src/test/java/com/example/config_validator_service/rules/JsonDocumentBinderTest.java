@@ -0,0 +1,109 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonDocumentBinderTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CompiledRuleSet ruleSet = RuleCompiler.compile(new RuleSetDefinition("nested", List.of(
+            field("env", "String", null),
+            field("db.pool.maxConnections", "Integer", new RuleSetDefinition.Range(1, 100)),
+            field("db.host", "String", null),
+            field("features.beta", "Boolean", null))));
+
+    @Test
+    void bind_shouldReadNestedPaths_andSkipEverythingElse() {
+        Object[] values = bind("{\"env\":\"prod\",\"unrelated\":{\"db\":{\"host\":\"wrong\"}},"
+                + "\"db\":{\"host\":\"db1\",\"replicas\":[{\"host\":\"db2\"}],\"pool\":{\"maxConnections\":40}},"
+                + "\"features\":{\"beta\":true}}");
+
+        assertArrayEquals(new Object[] {"prod", 40, "db1", true}, values);
+    }
+
+    @Test
+    void bind_shouldMarkStructuresAndKeepLastDuplicate() {
+        Object[] values = bind("{\"env\":[\"a\"],\"db\":{\"host\":{\"name\":\"x\"},\"pool\":{\"maxConnections\":1.5}},"
+                + "\"features\":{\"beta\":false,\"beta\":null}}");
+
+        assertEquals(JsonDocumentBinder.Structure.ARRAY, values[0]);
+        assertEquals(1.5, values[1]);
+        assertEquals(JsonDocumentBinder.Structure.OBJECT, values[2]);
+        assertNull(values[3]);
+    }
+
+    @Test
+    void bind_shouldReturnNull_whenNotASingleObject() {
+        assertNull(bind("[{\"env\":\"prod\"}]"));
+        assertNull(bind("{\"env\":\"prod\"} {\"env\":\"dev\"}"));
+        assertNull(bind(""));
+        assertThrows(StreamReadException.class, () -> bind("{\"db\":{\"pool\":"));
+    }
+
+    @Test
+    void validate_shouldReportDottedFieldsWithJsonPointers() {
+        ValidationResult result = ruleSet.validate(bind("{\"env\":\"prod\",\"db\":{\"pool\":{\"maxConnections\":500},"
+                + "\"host\":7}}"));
+
+        assertEquals(List.of("Field 'db.pool.maxConnections' must be between 1 and 100.",
+                        "Field 'db.host' must be of type String.",
+                        "Field 'features.beta' is required."),
+                result.getErrors());
+        Violation range = result.getViolations().stream()
+                .filter(v -> "db.pool.maxConnections".equals(v.getField())).findFirst().orElseThrow();
+        assertEquals("/db/pool/maxConnections", range.getPath());
+        assertEquals("/a~1b/c~0d", Violation.toJsonPointer("a/b.c~d"));
+    }
+
+    @Test
+    void bind_shouldStreamLargeDocuments() {
+        // ~8 MB of unaddressed entries around the values the rules need.
+        String entry = "{\"id\":123456,\"tags\":[\"a\",\"b\",\"c\"],\"note\":\"" + "x".repeat(64) + "\"},";
+        InputStream filler = new SequenceInputStream(Collections.enumeration(
+                Collections.nCopies(80_000, entry).stream().map(JsonDocumentBinderTest::stream).toList()));
+        InputStream document = new SequenceInputStream(Collections.enumeration(List.of(
+                stream("{\"env\":\"dev\",\"items\":["), filler, stream("{}],\"db\":{\"host\":\"h\","
+                        + "\"pool\":{\"maxConnections\":10}},\"features\":{\"beta\":false}}"))));
+
+        try (JsonParser parser = jsonMapper.createParser(document)) {
+            assertEquals("PASS", ruleSet.validate(ruleSet.bind(parser)).getStatus());
+        }
+    }
+
+    @Test
+    void compile_shouldRejectEmptyPathSegments() {
+        for (String name : new String[] {"db..host", ".db", "db."}) {
+            assertThrows(IllegalArgumentException.class, () -> RuleCompiler.compile(
+                    new RuleSetDefinition("v1", List.of(field(name, "String", null)))), name);
+        }
+    }
+
+    private Object[] bind(String json) {
+        try (JsonParser parser = jsonMapper.createParser(json)) {
+            return ruleSet.bind(parser);
+        }
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RuleSetDefinition.Field field(String name, String type, RuleSetDefinition.Range range) {
+        RuleSetDefinition.Field field = new RuleSetDefinition.Field(name, type, name);
+        field.setRange(range);
+        return field;
+    }
+}
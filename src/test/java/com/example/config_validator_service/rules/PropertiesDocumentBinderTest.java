@@ -0,0 +1,80 @@
+package com.example.config_validator_service.rules;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.exc.StreamReadException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesDocumentBinderTest {
+
+    private static final String[] NAMES = {"env", "db.pool.maxConnections", "features.beta", "db.host",
+        "greeting", "key=with:separators", "retries"};
+    private static final String[] TYPES = {"String", "Integer", "Boolean", "String", "String", "String",
+        "Integer"};
+
+    private final CompiledRuleSet ruleSet = RuleCompiler.compile(new RuleSetDefinition("properties",
+            IntStream.range(0, NAMES.length)
+                    .mapToObj(i -> new RuleSetDefinition.Field(NAMES[i], TYPES[i], NAMES[i]))
+                    .toList()));
+
+    @Test
+    void bind_shouldReadLikeJavaUtilProperties() throws IOException {
+        String document = """
+                # comment
+                ! another comment = ignored
+                env=prod
+                  db.pool.maxConnections = 40
+                features.beta:TRUE
+                db.host   db1
+                greeting = Hello, \\
+                           W\\u00f6rld\\t!
+                key\\=with\\:separators = yes
+                unrelated = a very long value \\
+                    continued = on the next line
+                retries = many
+                env = staging
+                """;
+        Object[] values = bind(document);
+
+        Properties expected = new Properties();
+        expected.load(new StringReader(document));
+        assertEquals("staging", values[0]);
+        assertEquals(40, values[1]);
+        assertEquals(true, values[2]);
+        assertEquals("Hello, W\u00f6rld\t!", values[4]);
+        assertEquals("yes", values[5]);
+        assertEquals("many", values[6], "text that is not an integer is left for the type rule");
+        for (int slot = 0; slot < NAMES.length; slot++) {
+            assertEquals(FieldType.of(TYPES[slot]).fromText(expected.getProperty(NAMES[slot])), values[slot],
+                    NAMES[slot]);
+        }
+    }
+
+    @Test
+    void bind_shouldConvertTextToTheDeclaredType() {
+        assertEquals(8080, FieldType.INTEGER.fromText("8080"));
+        assertEquals(5_000_000_000L, FieldType.INTEGER.fromText("5000000000"));
+        assertEquals("8080 ", FieldType.INTEGER.fromText("8080 "));
+        assertEquals(false, FieldType.BOOLEAN.fromText("False"));
+        assertEquals("yes", FieldType.BOOLEAN.fromText("yes"));
+        assertEquals("42", FieldType.STRING.fromText("42"));
+    }
+
+    @Test
+    void bind_shouldRejectMalformedUnicodeEscapes() {
+        StreamReadException ex = assertThrows(StreamReadException.class,
+                () -> bind("env=prod\nunrelated=\\u12G4\n"));
+        assertTrue(ex.getMessage().startsWith("Invalid properties at line 2: "), ex.getMessage());
+    }
+
+    private Object[] bind(String properties) throws IOException {
+        Object[] chunked = ruleSet.bindProperties(new TomlDocumentBinderTest.OneCharReader(properties));
+        assertArrayEquals(ruleSet.bindProperties(new StringReader(properties)), chunked);
+        return chunked;
+    }
+}
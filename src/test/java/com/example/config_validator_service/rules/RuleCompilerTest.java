@@ -0,0 +1,72 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.SchemaDefinition;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.service.PasswordPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleCompilerTest {
+
+    @Test
+    void compile_shouldGenerateSchemaFromRules() {
+        SchemaDefinition schema = RuleCompiler.compile(DefaultRules.create(PasswordPolicy.defaults())).getSchema();
+
+        assertEquals(List.of("environment", "debug", "maxConnections", "adminPassword"),
+                List.copyOf(schema.getFields().keySet()));
+        assertEquals("One of: dev, test, prod", schema.getFields().get("environment").getConstraints());
+        assertEquals("Must be false if environment is prod", schema.getFields().get("debug").getConstraints());
+        assertEquals("1-100 in dev, 1-500 in test, 1-2000 in prod",
+                schema.getFields().get("maxConnections").getConstraints());
+        assertEquals("Integer", schema.getFields().get("maxConnections").getType());
+    }
+
+    @Test
+    void validate_shouldApplyFallbackRange_forUnlistedDependencyValue() {
+        CompiledRuleSet ruleSet = RuleCompiler.compile(DefaultRules.create(PasswordPolicy.defaults()));
+        ValidationResult result = ruleSet.validate(new Object[] {"staging", false, 1500, "SecureP@ssw0rd"});
+
+        assertTrue(result.getErrors().contains(
+                "Field 'maxConnections' must be between 1 and 1000 for environment 'staging'."));
+    }
+
+    @Test
+    void validate_shouldEnforceCustomRules() {
+        RuleSetDefinition.Field region = new RuleSetDefinition.Field("region", "String", "Region");
+        RuleSetDefinition.Field replicas = new RuleSetDefinition.Field("replicas", "Integer", "Replicas");
+        replicas.setRange(new RuleSetDefinition.Range(1, 5));
+        replicas.setForbidden(List.of(new RuleSetDefinition.ForbiddenValue(1, "region", "eu", null)));
+        replicas.setRequired(false);
+        CompiledRuleSet ruleSet = RuleCompiler.compile(new RuleSetDefinition("v1", List.of(region, replicas)));
+
+        assertEquals("PASS", ruleSet.validate(new Object[] {"us", null}).getStatus());
+        assertEquals(List.of("Field 'region' is required.", "Field 'replicas' must be between 1 and 5."),
+                ruleSet.validate(new Object[] {null, 9}).getErrors());
+        assertEquals(List.of("Field 'replicas' must not be 1 when region is eu."),
+                ruleSet.validate(new Object[] {"eu", 1}).getErrors());
+        assertEquals(List.of("Field 'region' must be of type String."),
+                ruleSet.validate(new Object[] {42, 2}).getErrors());
+    }
+
+    @Test
+    void compile_shouldRejectReferenceToUndeclaredField() {
+        RuleSetDefinition.Field limit = new RuleSetDefinition.Field("limit", "Integer", "Limit");
+        limit.setRangeBy(new RuleSetDefinition.RangeByField("tier",
+                Map.of("free", new RuleSetDefinition.Range(1, 10)), null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RuleCompiler.compile(new RuleSetDefinition("v1", List.of(limit))));
+    }
+
+    @Test
+    void compile_shouldRejectUnknownType() {
+        RuleSetDefinition.Field field = new RuleSetDefinition.Field("ratio", "Float", "Ratio");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RuleCompiler.compile(new RuleSetDefinition("v1", List.of(field))));
+    }
+}
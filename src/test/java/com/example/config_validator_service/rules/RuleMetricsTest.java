@@ -0,0 +1,117 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.service.PasswordPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RuleSetRegistry ruleSets = new RuleSetRegistry(PasswordPolicy.defaults());
+
+    @Test
+    void validate_shouldCountOutcomesPerRule() {
+        RuleMetrics metrics = new RuleMetrics(meterRegistry, ruleSets, 1);
+        CompiledRuleSet ruleSet = ruleSets.current();
+
+        metrics.validate(ruleSet, ruleSet.bind(new ConfigRequest("prod", true, 50, "SecureP@ssw0rd")));
+        metrics.validate(ruleSet, ruleSet.bind(new ConfigRequest("dev", true, 50, "weak")));
+
+        assertEquals(1, count("debug", "forbidden", "fail"));
+        assertEquals(1, count("debug", "forbidden", "pass"));
+        assertEquals(1, count("adminPassword", "password", "fail"));
+        assertEquals(2, count("environment", "required", "pass"));
+        assertEquals(2, meterRegistry.get("validation.rule.duration")
+                .tags("field", "maxConnections", "rule", "rangeBy").timer().count());
+        assertEquals(2, meterRegistry.get("validation.duration").timer().count());
+    }
+
+    @Test
+    void validate_shouldOnlySampleRuleTimers_whenIntervalAboveOne() {
+        RuleMetrics metrics = new RuleMetrics(meterRegistry, ruleSets, 1_000_000);
+        CompiledRuleSet ruleSet = ruleSets.current();
+
+        for (int i = 0; i < 100; i++) {
+            metrics.validate(ruleSet, ruleSet.bind(new ConfigRequest("dev", true, 50, "SecureP@ssw0rd")));
+        }
+
+        assertEquals(100, count("environment", "allowedValues", "pass"));
+        assertTrue(meterRegistry.get("validation.rule.duration")
+                .tags("field", "environment", "rule", "allowedValues").timer().count() < 100);
+    }
+
+    @Test
+    void validate_shouldRegisterMetersForReloadedRuleSet() {
+        RuleMetrics metrics = new RuleMetrics(meterRegistry, ruleSets, 1);
+        RuleSetDefinition.Field region = new RuleSetDefinition.Field("region", "String", "Region");
+        ruleSets.activate(RuleCompiler.compile(new RuleSetDefinition("v2", List.of(region))));
+
+        metrics.validate(ruleSets.current(), new Object[] {null});
+
+        assertEquals(1, count("region", "required", "fail"));
+    }
+
+    @Test
+    void reload_shouldRemoveMetersOfDroppedRules() {
+        new RuleMetrics(meterRegistry, ruleSets, 1);
+        assertFalse(meterRegistry.find("validation.rule.evaluations").tag("field", "adminPassword").counters().isEmpty());
+
+        RuleSetDefinition.Field region = new RuleSetDefinition.Field("region", "String", "Region");
+        ruleSets.activate(RuleCompiler.compile(new RuleSetDefinition("v2", List.of(region))));
+
+        assertTrue(meterRegistry.find("validation.rule.evaluations").tag("field", "adminPassword").counters().isEmpty());
+        assertTrue(meterRegistry.find("validation.rule.duration").tag("field", "adminPassword").timers().isEmpty());
+        assertEquals(4, meterRegistry.find("validation.rule.evaluations").tag("field", "region").counters().size());
+    }
+
+    @Test
+    void validate_shouldMeterThePreviousRuleSet_andRunOlderOnesUnmetered() {
+        RuleMetrics metrics = new RuleMetrics(meterRegistry, ruleSets, 1);
+        CompiledRuleSet first = ruleSets.current();
+        Object[] values = first.bind(new ConfigRequest("dev", true, 50, "SecureP@ssw0rd"));
+        ruleSets.activate(RuleCompiler.compile(DefaultRules.create(PasswordPolicy.defaults())));
+
+        metrics.validate(first, values);
+        assertEquals(1, count("environment", "required", "pass"));
+
+        ruleSets.activate(RuleCompiler.compile(DefaultRules.create(PasswordPolicy.defaults())));
+        int registered = meterRegistry.getMeters().size();
+
+        assertNull(metrics.metersFor(first));
+        assertEquals("PASS", metrics.validate(first, values).getStatus());
+        assertEquals(1, count("environment", "required", "pass"));
+        assertEquals(registered, meterRegistry.getMeters().size());
+    }
+
+    @Test
+    void validate_shouldMeterRulesOfTheSameKindOnAFieldApart() {
+        RuleMetrics metrics = new RuleMetrics(meterRegistry, ruleSets, 1);
+        ruleSets.activate(RuleCompiler.compile(RuleSetLoader.parse(("version: v2\nfields:\n"
+                + "  - {name: environment, type: String}\n"
+                + "  - name: debug\n    type: Boolean\n    forbidden:\n"
+                + "      - {value: true, whenField: environment, whenEquals: prod}\n"
+                + "      - {value: true, whenField: environment, whenEquals: staging}\n")
+                .getBytes(StandardCharsets.UTF_8), "rules.yaml")));
+        CompiledRuleSet ruleSet = ruleSets.current();
+
+        metrics.validate(ruleSet, new Object[] {"staging", true});
+
+        assertEquals(1, meterRegistry.get("validation.rule.evaluations")
+                .tags("field", "debug", "rule", "forbidden", "index", "0", "outcome", "pass").counter().count());
+        assertEquals(1, meterRegistry.get("validation.rule.evaluations")
+                .tags("field", "debug", "rule", "forbidden", "index", "1", "outcome", "fail").counter().count());
+        assertEquals(2, meterRegistry.get("validation.rule.duration")
+                .tags("field", "debug", "rule", "forbidden").timers().size());
+    }
+
+    private double count(String field, String rule, String outcome) {
+        return meterRegistry.get("validation.rule.evaluations")
+                .tags("field", field, "rule", rule, "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.RuleOrderReport;
+import com.example.config_validator_service.service.PasswordPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleOrderTunerTest {
+
+    private final RuleSetRegistry ruleSets = new RuleSetRegistry(PasswordPolicy.defaults());
+    private final RuleMetrics metrics = new RuleMetrics(new SimpleMeterRegistry(), ruleSets, 1);
+
+    @Test
+    void tune_shouldRunRulesThatOftenRejectFirst_afterTheFieldsTheyDependOn() {
+        RuleOrderTuner tuner = tuner(100);
+        CompiledRuleSet ruleSet = ruleSets.current();
+        Object[] weakPassword = ruleSet.bind(new ConfigRequest("prod", false, 50, "weak"));
+        for (int i = 0; i < 1000; i++) {
+            metrics.validate(ruleSet, weakPassword);
+        }
+
+        assertTrue(tuner.tune());
+
+        List<String> order = order(tuner.report());
+        assertEquals("adminPassword/password", order.get(0));
+        assertTrue(order.indexOf("environment/allowedValues") < order.indexOf("maxConnections/rangeBy"), order.toString());
+        assertTrue(order.indexOf("environment/allowedValues") < order.indexOf("debug/forbidden"), order.toString());
+        // Fail-fast now reports the password before the rules that were cheaper by static cost.
+        Object[] values = ruleSet.bind(new ConfigRequest("prod", true, 50, "weak"));
+        assertEquals(ErrorCode.WEAK_PASSWORD, ruleSet.validate(values, 1).getViolations().get(0).getCode());
+        assertFalse(tuner.tune());
+    }
+
+    @Test
+    void tune_shouldPullForwardTheChecksASelectiveRuleDependsOn() {
+        RuleOrderTuner tuner = tuner(100);
+        CompiledRuleSet ruleSet = ruleSets.current();
+        Object[] outOfRange = ruleSet.bind(new ConfigRequest("dev", false, 5000, "SecureP@ssw0rd"));
+        for (int i = 0; i < 1000; i++) {
+            metrics.validate(ruleSet, outOfRange);
+        }
+
+        assertTrue(tuner.tune());
+
+        List<String> order = order(tuner.report());
+        assertEquals("maxConnections/rangeBy", order.get(3), order.toString());
+        assertTrue(order.subList(0, 3).containsAll(List.of("environment/required", "environment/type",
+                "environment/allowedValues")), order.toString());
+    }
+
+    @Test
+    void tune_shouldMoveAnExpensiveRuleBack_whenItRunsFirst() {
+        RuleOrderTuner tuner = tuner(100);
+        CompiledRuleSet ruleSet = ruleSets.current();
+        int password = order(tuner.report()).indexOf("adminPassword/password");
+        double[] costs = new double[ruleSet.getRuleCount()];
+        double[] rejectionRates = new double[costs.length];
+        Arrays.fill(costs, 1);
+        Arrays.fill(rejectionRates, 0.5);
+        costs[ruleSet.getLimitedOrder()[password]] = 0.1;
+        assertTrue(ruleSet.reorder(costs, rejectionRates));
+        assertEquals("adminPassword/password", order(tuner.report()).get(0));
+        // Every rule passes, so only the measured cost decides. The password check scans until it
+        // has seen every character class, which here is the whole long password.
+        Object[] values = ruleSet.bind(new ConfigRequest("prod", false, 50, "a".repeat(20_000) + "A1!"));
+        for (int i = 0; i < 1000; i++) {
+            metrics.validate(ruleSet, values, ruleSet.getRuleCount());
+        }
+
+        assertTrue(tuner.tune());
+
+        List<String> order = order(tuner.report());
+        assertEquals("adminPassword/password", order.get(order.size() - 1), order.toString());
+    }
+
+    @Test
+    void tune_shouldKeepTheStaticOrder_untilEveryRuleHasEnoughSamples() {
+        RuleOrderTuner tuner = tuner(100);
+        CompiledRuleSet ruleSet = ruleSets.current();
+        List<String> staticOrder = order(tuner.report());
+        for (int i = 0; i < 99; i++) {
+            metrics.validate(ruleSet, ruleSet.bind(new ConfigRequest("prod", false, 50, "weak")));
+        }
+
+        assertFalse(tuner.tune());
+
+        RuleOrderReport report = tuner.report();
+        assertFalse(report.isMeasured());
+        assertNull(report.getExpectedNanosPerFailFast());
+        assertEquals(staticOrder, order(report));
+        RuleOrderReport.RuleStats password = report.getRules().get(staticOrder.indexOf("adminPassword/password"));
+        assertEquals(99, password.getEvaluations());
+        assertEquals(99, password.getRejections());
+        assertNull(password.getRank());
+        assertEquals(List.of("environment"), report.getRules().get(staticOrder.indexOf("maxConnections/rangeBy"))
+                .getDependsOn());
+    }
+
+    @Test
+    void report_shouldStartOver_whenTheRuleSetIsReloaded() {
+        RuleOrderTuner tuner = tuner(1);
+        metrics.validate(ruleSets.current(), new Object[] {"prod", false, 50, "weak"});
+        assertTrue(tuner.report().getRules().get(0).getEvaluations() > 0);
+
+        RuleSetDefinition.Field region = new RuleSetDefinition.Field("region", "String", "Region");
+        ruleSets.activate(RuleCompiler.compile(new RuleSetDefinition("v2", List.of(region))));
+
+        RuleOrderReport report = tuner.report();
+        assertEquals("v2", report.getVersion());
+        assertEquals(List.of("region/required", "region/type"), order(report));
+        assertEquals(0, report.getRules().get(0).getEvaluations());
+    }
+
+    private RuleOrderTuner tuner(long minSamples) {
+        return new RuleOrderTuner(ruleSets, metrics, false, Duration.ofSeconds(30), minSamples);
+    }
+
+    private static List<String> order(RuleOrderReport report) {
+        return report.getRules().stream()
+                .map(stats -> stats.getField() + "/" + stats.getRule())
+                .collect(Collectors.toList());
+    }
+}
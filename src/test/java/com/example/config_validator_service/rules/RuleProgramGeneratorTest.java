@@ -0,0 +1,118 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.Violation;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleProgramGeneratorTest {
+
+    private static final Object[] VALUES = {null, "dev", "prod", "qa", 5, 500, 70000, 5000000000L, true, "1.5",
+        "SecureP@ssw0rd1", "weak", 1.5};
+
+    @Test
+    void generated_shouldMatchInterpreted_acrossSeveralChunks() {
+        String rules = rules(20);
+        CompiledRuleSet generated = RuleCompiler.compile(parse(rules), RuleCompiler.Backend.GENERATED);
+        CompiledRuleSet interpreted = RuleCompiler.compile(parse(rules), RuleCompiler.Backend.INTERPRETED);
+        assertTrue(generated.isGenerated());
+        assertFalse(interpreted.isGenerated());
+        assertTrue(generated.getRuleCount() > 64, "rules span three generated methods");
+
+        Random random = new Random(7);
+        for (int run = 0; run < 500; run++) {
+            Object[] values = new Object[generated.getFieldCount()];
+            for (int slot = 0; slot < values.length; slot++) {
+                values[slot] = VALUES[random.nextInt(VALUES.length)];
+            }
+            assertEquals(interpreted.validate(values), generated.validate(values));
+            assertEquals(interpreted.validate(values, 3), generated.validate(values, 3));
+            assertEquals(interpreted.evaluate(values).result(CompiledRuleSet.ALL_ERRORS),
+                    generated.evaluate(values).result(CompiledRuleSet.ALL_ERRORS));
+        }
+    }
+
+    @Test
+    void reorder_shouldRegenerateForTheNewLimitedOrder() {
+        String rules = rules(3);
+        CompiledRuleSet generated = RuleCompiler.compile(parse(rules), RuleCompiler.Backend.GENERATED);
+        CompiledRuleSet interpreted = RuleCompiler.compile(parse(rules), RuleCompiler.Backend.INTERPRETED);
+        double[] costs = new double[generated.getRuleCount()];
+        double[] rejectionRates = new double[costs.length];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = costs.length - i;
+            rejectionRates[i] = 0.5;
+        }
+        assertTrue(generated.reorder(costs, rejectionRates));
+        assertTrue(interpreted.reorder(costs, rejectionRates));
+        assertTrue(generated.isGenerated());
+
+        Random random = new Random(11);
+        for (int run = 0; run < 200; run++) {
+            Object[] values = new Object[generated.getFieldCount()];
+            for (int slot = 0; slot < values.length; slot++) {
+                values[slot] = VALUES[random.nextInt(VALUES.length)];
+            }
+            assertEquals(interpreted.validate(values, 1), generated.validate(values, 1));
+            assertEquals(interpreted.validate(values, 3), generated.validate(values, 3));
+        }
+    }
+
+    @Test
+    void generate_shouldFallBackToInterpreted_inANativeImage() {
+        RuleSetDefinition definition = parse(rules(3));
+        CompiledRuleSet ruleSet;
+        System.setProperty(RuleProgramGenerator.NATIVE_IMAGE_PROPERTY, "runtime");
+        try {
+            ruleSet = RuleCompiler.compile(definition, RuleCompiler.Backend.GENERATED);
+        } finally {
+            System.clearProperty(RuleProgramGenerator.NATIVE_IMAGE_PROPERTY);
+        }
+        CompiledRuleSet generated = RuleCompiler.compile(definition, RuleCompiler.Backend.GENERATED);
+
+        assertFalse(ruleSet.isGenerated());
+        Object[] values = new Object[ruleSet.getFieldCount()];
+        values[ruleSet.slotOf("services.svc1.port")] = 70000;
+        assertEquals(generated.validate(values), ruleSet.validate(values));
+        assertEquals(generated.validate(values, 1), ruleSet.validate(values, 1));
+    }
+
+    @Test
+    void apply_shouldRejectIndexesOutsideTheRuleSet() {
+        CompiledRuleSet ruleSet = RuleCompiler.compile(parse(rules(1)));
+        RuleProgram program = RuleProgramGenerator.generate(ruleSet.rules(), ruleSet.getLimitedOrder());
+        List<Violation> violations = new ArrayList<>();
+
+        program.apply(0, new Object[ruleSet.getFieldCount()], violations);
+
+        assertEquals(1, violations.size());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> program.apply(ruleSet.getRuleCount(), new Object[ruleSet.getFieldCount()], violations));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> program.apply(-1, new Object[ruleSet.getFieldCount()], violations));
+    }
+
+    private static String rules(int services) {
+        StringBuilder out = new StringBuilder("version: generated\nfields:\n"
+                + "  - {name: environment, type: String, allowedValues: [dev, prod]}\n"
+                + "  - name: maxConnections\n    type: Integer\n    rangeBy:\n      field: environment\n"
+                + "      ranges: {dev: {min: 1, max: 100}, prod: {min: 10, max: 5000}}\n"
+                + "  - name: debug\n    type: Boolean\n    required: false\n"
+                + "    forbidden:\n      - {value: true, whenField: environment, whenEquals: prod}\n");
+        for (int i = 0; i < services; i++) {
+            out.append("  - {name: services.svc").append(i).append(".port, type: Integer, range: {min: 1, max: 65535}}\n")
+                    .append("  - name: services.svc").append(i).append(".token\n    type: String\n")
+                    .append("    password: {minLength: 12, requiredClasses: [UPPERCASE, DIGIT, SPECIAL]}\n");
+        }
+        return out.toString();
+    }
+
+    private static RuleSetDefinition parse(String yaml) {
+        return RuleSetLoader.parse(yaml.getBytes(StandardCharsets.UTF_8), "rules.yaml");
+    }
+}
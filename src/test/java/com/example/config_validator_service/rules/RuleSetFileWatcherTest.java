@@ -0,0 +1,95 @@
+package com.example.config_validator_service.rules;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.service.PasswordPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSetFileWatcherTest {
+
+    private static final String RULES = """
+            version: "%s"
+            fields:
+              - name: environment
+                type: String
+                allowedValues: [dev, prod]
+              - name: maxConnections
+                type: Integer
+                rangeBy:
+                  field: environment
+                  ranges:
+                    dev: {min: 1, max: %d}
+            """;
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RuleSetRegistry registry = new RuleSetRegistry(PasswordPolicy.defaults());
+    private RuleSetFileWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    void constructor_shouldActivateRuleSetFromFile() throws Exception {
+        Path file = write("v1", 10);
+        watcher = new RuleSetFileWatcher(registry, meterRegistry, file.toString(), Duration.ofMillis(10));
+
+        assertEquals("v1", registry.current().getVersion());
+        assertEquals("FAIL", registry.current().validate(new ConfigRequest("dev", null, 20, null)).getStatus());
+        assertEquals(1, meterRegistry.get("validation.rules.active").tag("version", "v1").gauge().value());
+        assertEquals(1, meterRegistry.get("validation.rules.reload").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void reload_shouldKeepPreviousRuleSet_whenFileIsInvalid() throws Exception {
+        Path file = write("v1", 10);
+        watcher = new RuleSetFileWatcher(registry, meterRegistry, file.toString(), Duration.ofMillis(10));
+        Files.writeString(file, "fields:\n  - name: x\n    type: Float\n");
+
+        assertFalse(watcher.reload());
+        assertEquals("v1", registry.current().getVersion());
+        assertEquals(1, meterRegistry.get("validation.rules.reload").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void start_shouldReloadWhenFileChanges() throws Exception {
+        Path file = write("v1", 10);
+        watcher = new RuleSetFileWatcher(registry, meterRegistry, file.toString(), Duration.ofMillis(10));
+        watcher.start();
+
+        write("v2", 50);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!"v2".equals(registry.current().getVersion()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("v2", registry.current().getVersion());
+        assertEquals("PASS", registry.current().validate(new ConfigRequest("dev", null, 20, null)).getStatus());
+    }
+
+    @Test
+    void constructor_shouldFailFast_whenInitialFileIsMissing() {
+        String missing = dir.resolve("missing.yaml").toString();
+
+        assertThrows(IllegalStateException.class,
+                () -> new RuleSetFileWatcher(registry, meterRegistry, missing, Duration.ofMillis(10)));
+    }
+
+    private Path write(String version, int devMax) throws Exception {
+        return Files.writeString(dir.resolve("rules.yaml"), String.format(RULES, version, devMax));
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.config_validator_service.rules;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.exc.StreamReadException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TomlDocumentBinderTest {
+
+    private final CompiledRuleSet ruleSet = RuleCompiler.compile(new RuleSetDefinition("toml", List.of(
+            field("title", "String"),
+            field("owner.dob", "String"),
+            field("database.enabled", "Boolean"),
+            field("database.ports", "Integer"),
+            field("database.limits.cpu", "Integer"),
+            field("servers.alpha.ip", "String"),
+            field("servers.tls.port", "Integer"),
+            field("database", "String"),
+            field("servers", "String"))));
+
+    @Test
+    void bind_shouldFollowTablesDottedKeysAndInlineTables() throws IOException {
+        Object[] values = bind("""
+                # This is a TOML document
+                title = "TOML Example" # trailing comment
+
+                [owner]
+                name = "Tom"
+                dob = 1979-05-27 07:32:00-08:00
+
+                [database]
+                enabled = true
+                ports = [ 8000, 8001,
+                  8002, # comment inside an array
+                ]
+                data = [ ["delta", "phi"], [3.14], { nested = 'x' } ]
+                limits = { cpu = 0x50, memory = "1Gi" }
+
+                [servers.alpha]
+                ip = '10.0.0.1'
+                """);
+
+        assertArrayEquals(new Object[] {"TOML Example", "1979-05-27 07:32:00-08:00", true,
+                JsonDocumentBinder.Structure.ARRAY, 80, "10.0.0.1", null,
+                JsonDocumentBinder.Structure.OBJECT, JsonDocumentBinder.Structure.OBJECT}, values);
+    }
+
+    @Test
+    void bind_shouldReadEveryStringForm() throws IOException {
+        Object[] values = bind("title = \"tab\\there \\u00e9\\U0001F600 \\\"q\\\"\"\n"
+                + "servers.alpha.ip = \"\"\"\n  one \\\n    two \"\"\"\"\n"
+                + "owner.dob = '''\nC:\\path ''ok'' '''\n"
+                + "'database' . \"enabled\" = true\n"
+                + "\"servers.tls\".port = 1\n");
+
+        assertEquals("tab\there \u00e9\uD83D\uDE00 \"q\"", values[0]);
+        assertEquals("  one two \"", values[5]);
+        assertEquals("C:\\path ''ok'' ", values[1]);
+        assertEquals(true, values[2]);
+        assertNull(values[6], "a quoted key containing a dot is a single key");
+    }
+
+    @Test
+    void bind_shouldParseNumbersLikeJson() throws IOException {
+        assertEquals(1_000, TomlDocumentBinder.number("1_000"));
+        assertEquals(255, TomlDocumentBinder.number("0xff"));
+        assertEquals(15, TomlDocumentBinder.number("0o17"));
+        assertEquals(5, TomlDocumentBinder.number("0b101"));
+        assertEquals(-7, TomlDocumentBinder.number("-7"));
+        assertEquals(Long.MAX_VALUE, TomlDocumentBinder.number("9_223_372_036_854_775_807"));
+        assertEquals(6.5e-3, TomlDocumentBinder.number("6.5e-3"));
+        for (String invalid : new String[] {"01", "1__0", "_1", "0x-1", "+0xff", ".5", "5.", "1d", "03.14", "-00.5"}) {
+            assertThrows(NumberFormatException.class, () -> TomlDocumentBinder.number(invalid), invalid);
+        }
+        assertEquals(Double.NEGATIVE_INFINITY, bind("[database.limits]\ncpu = -inf\n")[4]);
+    }
+
+    @Test
+    void bind_shouldNotAddressArraysOfTables() throws IOException {
+        Object[] values = bind("""
+                [[servers]]
+                ip = "a"
+                [servers.tls]
+                port = 1
+                [[servers]]
+                ip = "b"
+                """);
+
+        assertEquals(JsonDocumentBinder.Structure.ARRAY, values[8]);
+        assertNull(values[6], "tables below an array of tables are not addressable");
+    }
+
+    @Test
+    void bind_shouldRejectInvalidToml() {
+        for (String invalid : new String[] {"title = \"open\n", "title = 01\n", "a = 1 b = 2\n", "[owner\n",
+                "unread = hello\n", "title = \"\\q\"\n", "= 1\n", "a = [1 2]\n", "a = { b = 1\n"}) {
+            StreamReadException ex = assertThrows(StreamReadException.class, () -> bind(invalid), invalid);
+            assertTrue(ex.getMessage().startsWith("Invalid TOML at line 1: "), ex.getMessage());
+        }
+    }
+
+    @Test
+    void bind_shouldCheckBareValues_whetherAddressedOrNot() throws IOException {
+        for (String key : new String[] {"title", "unread"}) {
+            for (String invalid : new String[] {"1abc", "03.14", "1.", "1e", "1_", "0x", "2024-13-99zz",
+                    "2024-13-01", "2023-02-29", "2024-01-01T25:00:00", "2024-01-01T10:00:00+1", "12:60:00",
+                    "07:32:00.", "truex", "+true", "nanx"}) {
+                String toml = key + " = " + invalid + "\n";
+                StreamReadException ex = assertThrows(StreamReadException.class, () -> bind(toml), toml);
+                assertTrue(ex.getMessage().contains("invalid value"), ex.getMessage());
+            }
+        }
+        String valid = "unread = [0, -0, +1_000, 0.5, -0e0, 1E+06, 0xdead_beef, 0o7, 0b1, inf, -nan, true,"
+                + " 2024-02-29, 1979-05-27T07:32:00Z, 1979-05-27 00:32:00.999999-07:00, 1979-05-27t07:32:00,"
+                + " 23:59:60.5]\n";
+        assertNull(bind(valid)[0]);
+        assertEquals("2024-02-29T23:59:59.5+01:00", bind("title = 2024-02-29T23:59:59.5+01:00\n")[0]);
+        assertEquals(Double.NaN, bind("[database.limits]\ncpu = +nan\n")[4]);
+    }
+
+    private Object[] bind(String toml) throws IOException {
+        // One character per read, so lookahead always crosses a buffer refill.
+        Object[] chunked = ruleSet.bindToml(new OneCharReader(toml));
+        assertArrayEquals(ruleSet.bindToml(new StringReader(toml)), chunked);
+        return chunked;
+    }
+
+    private static RuleSetDefinition.Field field(String name, String type) {
+        return new RuleSetDefinition.Field(name, type, name);
+    }
+
+    static final class OneCharReader extends Reader {
+        private final StringReader delegate;
+
+        OneCharReader(String text) {
+            this.delegate = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return delegate.read(buffer, offset, Math.min(length, 1));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleCompiler;
+import com.example.config_validator_service.rules.RuleSetLoader;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalValidationServiceTest {
+
+    private static final String RULES = """
+            version: incremental
+            fields:
+              - name: environment
+                type: String
+                allowedValues: [dev, qa, prod]
+              - name: db.pool.max
+                type: Integer
+                rangeBy:
+                  field: environment
+                  ranges: {dev: {min: 1, max: 100}, prod: {min: 10, max: 1000}}
+              - name: db.host
+                type: String
+                forbidden:
+                  - {value: localhost, whenField: environment, whenEquals: prod}
+              - name: features
+                type: Boolean
+                required: false
+              - name: secret
+                type: String
+                password: {minLength: 8, requiredClasses: [DIGIT]}
+            """;
+    private static final String[] PATHS = {"", "/environment", "/db", "/db/pool", "/db/pool/max", "/db/host",
+        "/db/pool/max/x", "/features", "/secret", "/other"};
+    private static final String[] VALUES = {"\"prod\"", "\"dev\"", "\"qa\"", "5", "50", "500", "5000000000", "1.5",
+        "true", "null", "\"localhost\"", "\"db1\"", "\"passw0rd!\"", "\"short\"", "{}", "[1,2]", "{\"x\":1}",
+        "{\"pool\":{\"max\":20},\"host\":\"localhost\"}", "{\"max\":\"many\"}"};
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void validatePatch_shouldMatchFullValidationOfThePatchedDocument() {
+        CompiledRuleSet ruleSet = compile(RULES);
+        // Only the affected rules, or every rule the baseline allows.
+        IncrementalValidationService incremental = service(new RuleSetRegistry(ruleSet));
+        IncrementalValidationService full = new IncrementalValidationService(new RuleSetRegistry(ruleSet),
+                meterRegistry, 100, Duration.ofMinutes(1), Integer.MAX_VALUE);
+        Random random = new Random(42);
+
+        for (int run = 0; run < 100; run++) {
+            IncrementalValidationService service = run % 2 == 0 ? incremental : full;
+            ObjectNode document = (ObjectNode) mapper.readTree("{\"environment\":\"prod\",\"db\":{\"pool\":{\"max\":50},"
+                    + "\"host\":\"db1\"},\"secret\":\"passw0rd!\",\"other\":[1]}");
+            String fingerprint = service.validate(parser(document), CompiledRuleSet.ALL_ERRORS).getFingerprint();
+            for (int step = 0; step < 20; step++) {
+                ArrayNode patch = mapper.createArrayNode();
+                for (int ops = 1 + random.nextInt(3); ops > 0; ops--) {
+                    document = randomOperation(random, document, patch);
+                }
+                int maxErrors = random.nextBoolean() ? CompiledRuleSet.ALL_ERRORS : 1 + random.nextInt(3);
+                IncrementalValidationService.Validated validated = service.validatePatch(fingerprint, patch, maxErrors);
+
+                ValidationResult expected = ruleSet.validate(ruleSet.bind(parser(document)), maxErrors);
+                assertEquals(expected, validated.getResult(), document + " after " + patch);
+                fingerprint = validated.getFingerprint();
+            }
+        }
+    }
+
+    @Test
+    void validatePatch_shouldOnlyRunRulesThatReadChangedFields() {
+        IncrementalValidationService service = service(new RuleSetRegistry(compile(RULES)));
+        String fingerprint = service.validate(parser(mapper.readTree("{\"environment\":\"dev\",\"db\":{\"pool\":{\"max\":50},"
+                + "\"host\":\"localhost\"},\"secret\":\"passw0rd!\"}")), CompiledRuleSet.ALL_ERRORS).getFingerprint();
+        double baseline = evaluated();
+
+        // Only the type rule of the optional features field; the password rules on secret are not run.
+        IncrementalValidationService.Validated validated = service.validatePatch(fingerprint,
+                patch("[{\"op\":\"add\",\"path\":\"/features\",\"value\":true}]"), CompiledRuleSet.ALL_ERRORS);
+        assertEquals("PASS", validated.getResult().getStatus());
+        assertEquals(1, evaluated() - baseline);
+
+        // The three rules on environment plus the range and forbidden rules that depend on it.
+        validated = service.validatePatch(validated.getFingerprint(),
+                patch("[{\"op\":\"replace\",\"path\":\"/environment\",\"value\":\"prod\"}]"), CompiledRuleSet.ALL_ERRORS);
+        assertEquals(List.of("Field 'db.host' must not be localhost when environment is prod."),
+                validated.getResult().getErrors());
+        assertEquals(6, evaluated() - baseline);
+    }
+
+    @Test
+    void validatePatch_shouldRunEveryRuleButThoseReadingWithheldFields_whenTheRuleSetIsSmall() {
+        CompiledRuleSet ruleSet = compile(RULES);
+        IncrementalValidationService service = new IncrementalValidationService(new RuleSetRegistry(ruleSet),
+                meterRegistry, 100, Duration.ofMinutes(1), ruleSet.getRuleCount() + 1);
+        String fingerprint = service.validate(parser(mapper.readTree("{\"environment\":\"dev\",\"db\":{\"pool\":{\"max\":50},"
+                + "\"host\":\"localhost\"},\"secret\":\"passw0rd!\"}")), CompiledRuleSet.ALL_ERRORS).getFingerprint();
+        double baseline = evaluated();
+
+        // All but the three rules on secret, whose value is not kept.
+        IncrementalValidationService.Validated validated = service.validatePatch(fingerprint,
+                patch("[{\"op\":\"add\",\"path\":\"/features\",\"value\":true}]"), CompiledRuleSet.ALL_ERRORS);
+        assertEquals("PASS", validated.getResult().getStatus());
+        assertEquals(ruleSet.getRuleCount() - 3, evaluated() - baseline);
+
+        validated = service.validatePatch(validated.getFingerprint(),
+                patch("[{\"op\":\"replace\",\"path\":\"/secret\",\"value\":\"short\"}]"), CompiledRuleSet.ALL_ERRORS);
+        assertEquals("FAIL", validated.getResult().getStatus());
+        assertEquals(2 * ruleSet.getRuleCount() - 3, evaluated() - baseline);
+    }
+
+    @Test
+    void validatePatch_shouldRequireSensitiveFieldsThatAChangedRuleReads() {
+        IncrementalValidationService service = service(new RuleSetRegistry(compile(RULES
+                + "    forbidden:\n      - {value: changeme1, whenField: environment, whenEquals: prod}\n")));
+        String fingerprint = service.validate(parser(mapper.readTree("{\"environment\":\"dev\",\"db\":{\"pool\":{\"max\":50},"
+                + "\"host\":\"db1\"},\"secret\":\"changeme1\"}")), CompiledRuleSet.ALL_ERRORS).getFingerprint();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.validatePatch(
+                fingerprint, patch("[{\"op\":\"replace\",\"path\":\"/environment\",\"value\":\"prod\"}]"), 1));
+        assertTrue(ex.getMessage().startsWith("The patch must also set 'secret'"), ex.getMessage());
+
+        IncrementalValidationService.Validated validated = service.validatePatch(fingerprint, patch(
+                "[{\"op\":\"replace\",\"path\":\"/environment\",\"value\":\"prod\"},"
+                        + "{\"op\":\"replace\",\"path\":\"/secret\",\"value\":\"changeme1\"}]"), 1);
+        assertEquals("FORBIDDEN_VALUE", validated.getResult().getViolations().get(0).getCode().name());
+    }
+
+    @Test
+    void validatePatch_shouldRejectUnknownBaselinesAndUnsupportedPatches() {
+        RuleSetRegistry ruleSets = new RuleSetRegistry(compile(RULES));
+        IncrementalValidationService service = service(ruleSets);
+        String fingerprint = service.validate(parser(mapper.readTree("{\"environment\":\"dev\"}")), 1).getFingerprint();
+
+        for (String invalid : new String[] {"{}", "[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/b\"}]",
+                "[{\"op\":\"add\",\"path\":\"/environment\"}]", "[{\"op\":\"remove\",\"path\":\"environment\"}]",
+                "[{\"op\":\"remove\",\"path\":\"\"}]"}) {
+            assertThrows(IllegalArgumentException.class, () -> service.validatePatch(fingerprint, patch(invalid), 1),
+                    invalid);
+        }
+        assertNull(service.validatePatch("0".repeat(32), patch("[]"), 1));
+        ruleSets.activate(compile(RULES.replace("version: incremental", "version: reloaded")));
+        assertNull(service.validatePatch(fingerprint, patch("[]"), 1));
+        assertEquals(0, service.size());
+    }
+
+    private ObjectNode randomOperation(Random random, ObjectNode document, ArrayNode patch) {
+        while (true) {
+            String path = PATHS[random.nextInt(PATHS.length)];
+            String op = new String[] {"add", "replace", "remove"}[random.nextInt(3)];
+            JsonNode value = mapper.readTree(VALUES[random.nextInt(VALUES.length)]);
+            if (path.isEmpty()) {
+                if (op.equals("remove") || !value.isObject()) {
+                    continue;
+                }
+                patch.addObject().put("op", op).put("path", path).set("value", value);
+                return (ObjectNode) value.deepCopy();
+            }
+            int split = path.lastIndexOf('/');
+            JsonNode parent = document.at(path.substring(0, split));
+            String key = path.substring(split + 1);
+            // Only operations a real JSON Patch implementation would accept on this document.
+            if (!parent.isObject() || (!op.equals("add") && !parent.has(key))) {
+                continue;
+            }
+            ObjectNode operation = patch.addObject().put("op", op).put("path", path);
+            if (op.equals("remove")) {
+                ((ObjectNode) parent).remove(key);
+            } else {
+                operation.set("value", value);
+                ((ObjectNode) parent).set(key, value.deepCopy());
+            }
+            return document;
+        }
+    }
+
+    private double evaluated() {
+        return meterRegistry.get("validation.incremental.rules").tag("outcome", "evaluated").counter().count();
+    }
+
+    private IncrementalValidationService service(RuleSetRegistry ruleSets) {
+        return new IncrementalValidationService(ruleSets, meterRegistry, 100, Duration.ofMinutes(1), 0);
+    }
+
+    private JsonParser parser(JsonNode document) {
+        return mapper.createParser(mapper.writeValueAsBytes(document));
+    }
+
+    private JsonNode patch(String json) {
+        return mapper.readTree(json);
+    }
+
+    private static CompiledRuleSet compile(String yaml) {
+        return RuleCompiler.compile(RuleSetLoader.parse(yaml.getBytes(StandardCharsets.UTF_8), "rules.yaml"));
+    }
+}
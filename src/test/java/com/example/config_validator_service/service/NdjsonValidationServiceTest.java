@@ -0,0 +1,135 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonValidationServiceTest {
+
+    private final JsonMapper mapper = new JsonMapper();
+    private NdjsonValidationService ndjsonValidationService;
+
+    @BeforeEach
+    void setUp() {
+        ndjsonValidationService = new NdjsonValidationService(new ValidationService(), mapper);
+    }
+
+    @Test
+    void validate_shouldWriteOneResultLinePerRecord() {
+        String input = """
+                {"environment":"dev","debug":true,"maxConnections":50,"adminPassword":"SecureP@ssw0rd"}
+                {"environment":"prod","debug":true,"maxConnections":50,"adminPassword":"SecureP@ssw0rd"}
+                """;
+        List<ValidationResult> results = run(input, 2);
+
+        assertEquals("PASS", results.get(0).getStatus());
+        assertEquals("FAIL", results.get(1).getStatus());
+        assertTrue(results.get(1).getErrors().contains("Debug mode must not be enabled in production."));
+    }
+
+    @Test
+    void validate_shouldContinueAfterRecordWithWrongTypes() {
+        String input = """
+                {"environment":"dev","debug":true,"maxConnections":"lots","extra":{"a":[1,2]},"adminPassword":"x"}
+                {"environment":"dev","debug":true,"maxConnections":50,"adminPassword":"SecureP@ssw0rd"}
+                """;
+        List<ValidationResult> results = run(input, 2);
+
+        assertEquals("FAIL", results.get(0).getStatus());
+        assertTrue(results.get(0).getErrors().get(0).startsWith("Malformed JSON request or invalid data types"));
+        assertEquals("PASS", results.get(1).getStatus());
+    }
+
+    @Test
+    void validate_shouldStopAtSyntaxError() {
+        String input = """
+                {"environment":"dev","debug":true,"maxConnections":50,"adminPassword":"SecureP@ssw0rd"}
+                {"environment": dev}
+                {"environment":"dev","debug":true,"maxConnections":50,"adminPassword":"SecureP@ssw0rd"}
+                """;
+        List<ValidationResult> results = run(input, 2);
+
+        assertEquals("PASS", results.get(0).getStatus());
+        assertTrue(results.get(1).getErrors().get(0).startsWith("Malformed JSON record"));
+    }
+
+    @Test
+    void validate_shouldTruncateParserMessages() {
+        String input = "{\"environment\": d" + "e".repeat(10_000) + "v}\n";
+        List<ValidationResult> results = run(input, 1);
+
+        String error = results.get(0).getErrors().get(0);
+        assertTrue(error.startsWith("Malformed JSON record: "));
+        assertTrue(error.length() <= "Malformed JSON record: ".length() + 203, error);
+        assertTrue(error.endsWith("..."));
+    }
+
+    @Test
+    void validate_shouldFlushEachResult_beforeWaitingForMoreInput() {
+        byte[] first = "{\"environment\":\"dev\",\"debug\":true,\"maxConnections\":50,\"adminPassword\":\"SecureP@ssw0rd\"}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] second = "{\"environment\":\"prod\",\"debug\":true,\"maxConnections\":50,\"adminPassword\":\"SecureP@ssw0rd\"}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> seenBeforeSecond = new ArrayList<>();
+        // Hands out the second record only on a later read, like a client that is slow to send it.
+        InputStream input = new InputStream() {
+            private int reads;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                byte[] chunk;
+                switch (reads++) {
+                    case 0 -> chunk = first;
+                    case 1 -> {
+                        seenBeforeSecond.add(output.toString(StandardCharsets.UTF_8));
+                        chunk = second;
+                    }
+                    default -> {
+                        return -1;
+                    }
+                }
+                System.arraycopy(chunk, 0, buffer, offset, chunk.length);
+                return chunk.length;
+            }
+        };
+
+        assertEquals(2, ndjsonValidationService.validate(input, output));
+        assertEquals(1, seenBeforeSecond.size());
+        assertTrue(seenBeforeSecond.get(0).startsWith("{\"status\":\"PASS\""), seenBeforeSecond.get(0));
+        assertEquals(1, seenBeforeSecond.get(0).split("\n").length);
+        assertEquals(2, output.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    private List<ValidationResult> run(String input, int expectedRecords) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long records = ndjsonValidationService.validate(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+        assertEquals(expectedRecords, records);
+
+        List<ValidationResult> results = new ArrayList<>();
+        String body = output.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("}\n"));
+        for (String line : body.split("\n")) {
+            assertTrue(line.startsWith("{"));
+            results.add(mapper.readValue(line, ValidationResult.class));
+        }
+        assertEquals(expectedRecords, results.size());
+        return results;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.config_validator_service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordPolicyTest {
+
+    private final PasswordPolicy policy = PasswordPolicy.defaults();
+
+    @Test
+    void check_shouldReturnZero_whenAllCriteriaMet() {
+        assertEquals(0, policy.check("SecureP@ssw0rd"));
+        assertTrue(policy.isValid("SecureP@ssw0rd"));
+    }
+
+    @Test
+    void check_shouldReportEveryUnmetCriterion() {
+        int violations = policy.check("abc");
+
+        assertEquals(PasswordPolicy.TOO_SHORT
+                | PasswordPolicy.CharacterClass.UPPERCASE.mask()
+                | PasswordPolicy.CharacterClass.DIGIT.mask()
+                | PasswordPolicy.CharacterClass.SPECIAL.mask(), violations);
+    }
+
+    @Test
+    void check_shouldIgnoreNonAsciiCharacters() {
+        assertEquals(PasswordPolicy.CharacterClass.SPECIAL.mask(), policy.check("Pässwörd123"));
+    }
+
+    @Test
+    void check_shouldHonourConfiguredClasses() {
+        PasswordPolicy lenient = new PasswordPolicy(4,
+                EnumSet.of(PasswordPolicy.CharacterClass.DIGIT));
+
+        assertTrue(lenient.isValid("abc1"));
+        assertEquals(PasswordPolicy.CharacterClass.DIGIT.mask(), lenient.check("abcd"));
+    }
+
+    @Test
+    void requirementDescription_shouldMatchLegacyMessage_forDefaults() {
+        assertEquals("at least 8 characters long and contain mixed case, numbers, and special characters",
+                policy.getRequirementDescription());
+    }
+}
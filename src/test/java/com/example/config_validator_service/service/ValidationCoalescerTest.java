@@ -0,0 +1,111 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ValidationCoalescer coalescer = new ValidationCoalescer(meterRegistry, true);
+    private final CompiledRuleSet ruleSet = new RuleSetRegistry(PasswordPolicy.defaults()).current();
+    private final Object[] values = ruleSet.bind(new ConfigRequest("prod", true, 50, "weak"));
+
+    @Test
+    void get_shouldShareResult_whenIdenticalValidationInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ValidationResult> first = CompletableFuture.supplyAsync(() ->
+                coalescer.get(ruleSet, values, CompiledRuleSet.ALL_ERRORS, () -> {
+                    await(release);
+                    return ruleSet.validate(values, CompiledRuleSet.ALL_ERRORS);
+                }));
+        waitFor(() -> coalescer.inFlight() == 1);
+
+        CompletableFuture<ValidationResult> second = CompletableFuture.supplyAsync(() ->
+                coalescer.get(ruleSet, values.clone(), CompiledRuleSet.ALL_ERRORS,
+                        () -> fail("identical validation must not be evaluated twice")));
+        waitFor(() -> count("coalesced") == 1);
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, count("executed"));
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void get_shouldEvaluateAgain_whenNothingInFlight() {
+        ValidationResult first = coalescer.get(ruleSet, values, 1, () -> ruleSet.validate(values, 1));
+        ValidationResult second = coalescer.get(ruleSet, values, 1, () -> ruleSet.validate(values, 1));
+
+        assertNotSame(first, second);
+        assertEquals(2, count("executed"));
+        assertEquals(0, count("coalesced"));
+    }
+
+    @Test
+    void get_shouldShareFailure_andForgetKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ValidationResult> first = CompletableFuture.supplyAsync(() ->
+                coalescer.get(ruleSet, values, CompiledRuleSet.ALL_ERRORS, () -> {
+                    await(release);
+                    throw new IllegalStateException("boom");
+                }));
+        waitFor(() -> coalescer.inFlight() == 1);
+        CompletableFuture<ValidationResult> second = CompletableFuture.supplyAsync(() ->
+                coalescer.get(ruleSet, values, CompiledRuleSet.ALL_ERRORS, () -> null));
+        waitFor(() -> count("coalesced") == 1);
+        release.countDown();
+
+        Exception firstError = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+        Exception secondError = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, firstError.getCause());
+        assertSame(firstError.getCause(), secondError.getCause());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void validationService_shouldUseCoalescer_onlyWithoutCache() {
+        RuleSetRegistry ruleSets = new RuleSetRegistry(PasswordPolicy.defaults());
+        ValidationService service = new ValidationService(ruleSets, null, null, coalescer);
+        service.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+        assertEquals(1, count("executed"));
+
+        ValidationResultCache cache = new ValidationResultCache(ruleSets, new SimpleMeterRegistry(), true,
+                100, Duration.ofMinutes(1));
+        new ValidationService(ruleSets, null, cache, coalescer)
+                .validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+        assertEquals(1, count("executed"));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("validation.coalescing.requests").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.config_validator_service.service;
+
+import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
+import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.rules.CompiledRuleSet;
+import com.example.config_validator_service.rules.DefaultRules;
+import com.example.config_validator_service.rules.RuleCompiler;
+import com.example.config_validator_service.rules.RuleMetrics;
+import com.example.config_validator_service.rules.RuleOrderTuner;
+import com.example.config_validator_service.rules.RuleSetRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationResultCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RuleSetRegistry ruleSets = new RuleSetRegistry(PasswordPolicy.defaults());
+    private final ValidationResultCache cache =
+            new ValidationResultCache(ruleSets, meterRegistry, true, 100, Duration.ofMinutes(1));
+    private final ValidationService validationService = new ValidationService(ruleSets, null, cache, null);
+
+    @Test
+    void validate_shouldReturnSharedResult_whenSameConfigRepeated() {
+        ValidationResult first = validationService.validate(new ConfigRequest("prod", true, 50, "weak"));
+        ValidationResult second = validationService.validate(new ConfigRequest("prod", true, 50, "weak"));
+
+        assertSame(first, second);
+        assertEquals(2, first.getErrors().size());
+        assertThrows(UnsupportedOperationException.class, () -> first.getErrors().add("x"));
+        assertEquals(0.5, meterRegistry.get("validation.cache.hit.ratio").gauge().value());
+    }
+
+    @Test
+    void validate_shouldMiss_whenOnlyPasswordDiffers() {
+        ValidationResult weak = validationService.validate(new ConfigRequest("dev", false, 50, "weak"));
+        ValidationResult strong = validationService.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+
+        assertEquals("FAIL", weak.getStatus());
+        assertEquals("PASS", strong.getStatus());
+    }
+
+    @Test
+    void validate_shouldNotRetainPlaintextPassword() {
+        validationService.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+
+        int slot = ruleSets.current().slotOf("adminPassword");
+        for (Object[] values : cache.keyValues()) {
+            assertInstanceOf(byte[].class, values[slot]);
+            assertEquals("dev", values[ruleSets.current().slotOf("environment")]);
+        }
+        assertEquals(1, cache.keyValues().size());
+    }
+
+    @Test
+    void validate_shouldDropEntries_whenRuleSetReloaded() {
+        validationService.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+
+        ruleSets.activate(RuleCompiler.compile(
+                DefaultRules.create(new PasswordPolicy(20, PasswordPolicy.defaults().getRequiredClasses()))));
+
+        assertEquals(0, cache.size());
+        assertEquals("FAIL", validationService.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"))
+                .getStatus());
+    }
+
+    @Test
+    void validate_shouldMissLimitedEntries_whenRuleOrderRetuned() {
+        RuleMetrics metrics = new RuleMetrics(meterRegistry, ruleSets, 1);
+        RuleOrderTuner tuner = new RuleOrderTuner(ruleSets, metrics, false, Duration.ofSeconds(30), 100);
+        ValidationService service = new ValidationService(ruleSets, metrics, cache, null);
+        ConfigRequest request = new ConfigRequest("prod", true, 50, "weak");
+        ValidationResult all = service.validate(request);
+        assertEquals(ErrorCode.FORBIDDEN_VALUE, service.validate(request, 1).getViolations().get(0).getCode());
+
+        CompiledRuleSet ruleSet = ruleSets.current();
+        Object[] weakPassword = ruleSet.bind(new ConfigRequest("prod", false, 50, "weak"));
+        for (int i = 0; i < 1000; i++) {
+            metrics.validate(ruleSet, weakPassword);
+        }
+        assertTrue(tuner.tune());
+
+        assertEquals(ErrorCode.WEAK_PASSWORD, service.validate(request, 1).getViolations().get(0).getCode());
+        // Full runs do not depend on the order and stay cached.
+        assertSame(all, service.validate(request));
+    }
+
+    @Test
+    void validate_shouldBypassCache_whenDisabled() {
+        ValidationResultCache disabled =
+                new ValidationResultCache(ruleSets, new SimpleMeterRegistry(), false, 100, Duration.ofMinutes(1));
+        ValidationService service = new ValidationService(ruleSets, null, disabled, null);
+
+        ValidationResult first = service.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+        ValidationResult second = service.validate(new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"));
+
+        assertNotSame(first, second);
+        assertEquals(0, disabled.size());
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.config_validator_service.service;
 
+import com.example.config_validator_service.exception.BatchTooLargeException;
+import com.example.config_validator_service.model.BatchValidationResult;
 import com.example.config_validator_service.model.ConfigRequest;
+import com.example.config_validator_service.model.ErrorCode;
 import com.example.config_validator_service.model.SchemaDefinition;
 import com.example.config_validator_service.model.ValidationResult;
+import com.example.config_validator_service.model.Violation;
+import com.example.config_validator_service.rules.RuleSetRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidationServiceTest {
@@ -26,6 +35,37 @@ class ValidationServiceTest {
         assertTrue(result.getErrors().isEmpty());
     }
 
+    @Test
+    void validate_shouldExposeErrorCodes_whenRulesFail() {
+        ConfigRequest request = new ConfigRequest("qa", true, 5000, "weak");
+        ValidationResult result = validationService.validate(request);
+
+        assertEquals(List.of(ErrorCode.NOT_ALLOWED, ErrorCode.OUT_OF_RANGE, ErrorCode.WEAK_PASSWORD),
+                result.getViolations().stream().map(Violation::getCode).toList());
+        assertEquals("Field 'maxConnections' must be between 1 and 1000 for environment 'qa'.",
+                result.getViolations().get(1).getMessage());
+        assertEquals("adminPassword", result.getViolations().get(2).getField());
+    }
+
+    @Test
+    void validate_shouldReportCheapestViolationOnly_whenFailFast() {
+        ConfigRequest request = new ConfigRequest("qa", true, 5000, null);
+        ValidationResult result = validationService.validate(request, 1);
+
+        assertEquals("FAIL", result.getStatus());
+        assertEquals(List.of("Field 'adminPassword' is required."), result.getErrors());
+    }
+
+    @Test
+    void validate_shouldCapErrors_whenMaxErrorsSet() {
+        ConfigRequest request = new ConfigRequest("qa", true, 5000, "weak");
+
+        assertEquals(2, validationService.validate(request, 2).getErrors().size());
+        assertEquals(3, validationService.validate(request, 10).getErrors().size());
+        assertEquals("PASS", validationService.validate(
+                new ConfigRequest("dev", false, 50, "SecureP@ssw0rd"), 1).getStatus());
+    }
+
     @Test
     void validate_shouldPass_whenConfigIsValid_forTest() {
         ConfigRequest request = new ConfigRequest("test", true, 400, "SecureP@ssw0rd");
@@ -157,6 +197,73 @@ class ValidationServiceTest {
         assertTrue(result.getErrors().stream().anyMatch(e -> e.contains("special characters")));
     }
 
+    // ---------- Batch tests ----------
+
+    @Test
+    void validateAll_shouldSummarizeResultsInInputOrder() {
+        List<ConfigRequest> requests = Arrays.asList(
+                new ConfigRequest("dev", true, 50, "SecureP@ssw0rd"),
+                new ConfigRequest("prod", true, 50, "SecureP@ssw0rd"),
+                null);
+        BatchValidationResult result = validationService.validateAll(requests);
+
+        assertEquals("FAIL", result.getStatus());
+        assertEquals(3, result.getSummary().getTotal());
+        assertEquals(1, result.getSummary().getPassed());
+        assertEquals(2, result.getSummary().getFailed());
+        assertEquals("PASS", result.getResults().get(0).getStatus());
+        assertTrue(result.getResults().get(1).getErrors().contains("Debug mode must not be enabled in production."));
+        assertTrue(result.getResults().get(2).getErrors().contains("Config entry must not be null."));
+    }
+
+    @Test
+    void validateAll_shouldMatchSingleValidation_forLargeBatches() {
+        List<ConfigRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            requests.add(new ConfigRequest(i % 2 == 0 ? "dev" : "test", true, i, "SecureP@ssw0rd"));
+        }
+        BatchValidationResult result = validationService.validateAll(requests);
+
+        for (int i = 0; i < requests.size(); i++) {
+            assertEquals(validationService.validate(requests.get(i)), result.getResults().get(i));
+        }
+        assertEquals(1000, result.getSummary().getTotal());
+    }
+
+    @Test
+    void validateAll_shouldSplitLargeBatches_acrossTheBatchPool() {
+        ValidationService service = new ValidationService(
+                new RuleSetRegistry(PasswordPolicy.defaults()), null, null, null, 500, 2);
+        List<ConfigRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            requests.add(i % 7 == 0 ? null : new ConfigRequest("dev", true, i, "SecureP@ssw0rd"));
+        }
+        try {
+            BatchValidationResult result = service.validateAll(requests);
+
+            for (int i = 0; i < requests.size(); i++) {
+                ValidationResult expected = requests.get(i) == null
+                        ? ValidationResult.failure(ErrorCode.NULL_ENTRY, "Config entry must not be null.")
+                        : validationService.validate(requests.get(i));
+                assertEquals(expected, result.getResults().get(i));
+            }
+        } finally {
+            service.destroy();
+        }
+    }
+
+    @Test
+    void validateAll_shouldReject_whenBatchExceedsMaxSize() {
+        ValidationService service = new ValidationService(
+                new RuleSetRegistry(PasswordPolicy.defaults()), null, null, null, 2, 1);
+        List<ConfigRequest> requests = Arrays.asList(null, null, null);
+
+        BatchTooLargeException ex = assertThrows(BatchTooLargeException.class, () -> service.validateAll(requests));
+        assertEquals("Batch of 3 configs exceeds the limit of 2.", ex.getMessage());
+        assertEquals(2, service.validateAll(requests.subList(0, 2)).getSummary().getTotal());
+        service.destroy();
+    }
+
     @Test
     void getSchema_shouldReturnSchemaDefinition() {
         SchemaDefinition schema = validationService.getSchema();